@@ -0,0 +1,71 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.deck.CardShuffler;
+import com.sap.ase.poker.model.deck.Deck;
+import com.sap.ase.poker.model.deck.IncrementalCardShuffler;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.RandomCardShuffler;
+import com.sap.ase.poker.model.deck.SecureCardShuffler;
+import com.sap.ase.poker.model.deck.SimulationCardShuffler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deals the cards of a hand with six players from a reused deck with every shuffler. {@code secure-unbuffered}
+ * asks the secure random directly and shows what the buffer of {@link SecureCardShuffler} saves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardShufflerBenchmark {
+
+    private static final int DEALT_CARDS = 2 * 6 + 5;
+
+    @Param({"random", "simulation", "secure", "secure-unbuffered"})
+    public String shuffler;
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck(new PokerCardsSupplier().get(), createShuffler());
+    }
+
+    @Benchmark
+    public void shuffleAndDealHand(Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < DEALT_CARDS; i++) {
+            blackhole.consume(deck.draw());
+        }
+    }
+
+    private CardShuffler createShuffler() {
+        switch (shuffler) {
+            case "random":
+                return new RandomCardShuffler();
+            case "simulation":
+                return new SimulationCardShuffler();
+            case "secure":
+                return new SecureCardShuffler();
+            default:
+                SecureRandom secureRandom = new SecureRandom();
+                return (IncrementalCardShuffler) (from, to) -> from + secureRandom.nextInt(to - from);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random but reproducible deals, prepared before a benchmark runs so shuffling is not measured
+ */
+class Deals {
+
+    static final int DEAL_COUNT = 1024;
+
+    private static final long SEED = 42;
+
+    private Deals() {
+    }
+
+    static List<List<Card>> deal(int amountOfCards) {
+        Random random = new Random(SEED);
+        List<Card> pokerCards = new PokerCardsSupplier().get();
+        List<List<Card>> deals = new ArrayList<>(DEAL_COUNT);
+        for (int i = 0; i < DEAL_COUNT; i++) {
+            List<Card> cards = new ArrayList<>(pokerCards);
+            Collections.shuffle(cards, random);
+            deals.add(new ArrayList<>(cards.subList(0, amountOfCards)));
+        }
+        return deals;
+    }
+}
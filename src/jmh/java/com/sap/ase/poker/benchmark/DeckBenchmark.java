@@ -0,0 +1,86 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Deck;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.RandomCardShuffler;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"2", "6", "10"})
+    public int amountOfPlayers;
+
+    private final ShuffledDeckSupplier deckSupplier =
+            new ShuffledDeckSupplier(new PokerCardsSupplier(), new RandomCardShuffler());
+
+    private final Deck incrementallyShuffledDeck = new Deck(new PokerCardsSupplier().get(), new RandomCardShuffler());
+    private final Deck eagerlyShuffledDeck = new Deck(new PokerCardsSupplier().get(), cards -> {
+        List<Card> shuffled = new ArrayList<>(cards);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled;
+    });
+
+    @Benchmark
+    public Deck shuffledDeck() {
+        return deckSupplier.get();
+    }
+
+    /**
+     * A fresh deck dealing the hand cards of every player and the five community cards
+     */
+    @Benchmark
+    public void dealHand(Blackhole blackhole) {
+        Deck deck = deckSupplier.get();
+        for (int i = 0; i < 2 * amountOfPlayers + 5; i++) {
+            Card card = deck.draw();
+            blackhole.consume(card);
+        }
+    }
+
+    /**
+     * Reuses one deck like a table does, only the dealt cards are randomized
+     */
+    @Benchmark
+    public void reshuffleAndDealHand(Blackhole blackhole) {
+        dealHand(incrementallyShuffledDeck, blackhole);
+    }
+
+    /**
+     * Reuses one deck, but a shuffler without incremental picking orders all cards on every shuffle
+     */
+    @Benchmark
+    public void reshuffleEagerlyAndDealHand(Blackhole blackhole) {
+        dealHand(eagerlyShuffledDeck, blackhole);
+    }
+
+    private void dealHand(Deck deck, Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < 2 * amountOfPlayers + 5; i++) {
+            blackhole.consume(deck.draw());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.rules.HandRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandRulesBenchmark {
+
+    private final HandRules handRules = new HandRules();
+
+    private List<List<Card>> deals;
+    private long[] cardMasks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        deals = Deals.deal(7);
+        cardMasks = new long[deals.size()];
+        for (int i = 0; i < deals.size(); i++) {
+            cardMasks[i] = CardCodec.maskOf(deals.get(i));
+        }
+    }
+
+    @Benchmark
+    public Hand findBestHand() {
+        return handRules.findBestHand(deals.get(nextDeal()));
+    }
+
+    @Benchmark
+    public int evaluateCards() {
+        return handRules.evaluate(deals.get(nextDeal()));
+    }
+
+    @Benchmark
+    public int evaluateCardMask() {
+        return handRules.evaluate(cardMasks[nextDeal()]);
+    }
+
+    private int nextDeal() {
+        next = (next + 1) & (Deals.DEAL_COUNT - 1);
+        return next;
+    }
+}
@@ -0,0 +1,257 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.InvalidHandException;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.hands.Flush;
+import com.sap.ase.poker.model.hands.FourOfAKind;
+import com.sap.ase.poker.model.hands.FullHouse;
+import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.hands.HighCard;
+import com.sap.ase.poker.model.hands.Pair;
+import com.sap.ase.poker.model.hands.RoyalFlush;
+import com.sap.ase.poker.model.hands.Straight;
+import com.sap.ase.poker.model.hands.StraightFlush;
+import com.sap.ase.poker.model.hands.ThreeOfAKind;
+import com.sap.ase.poker.model.hands.TwoPairs;
+import com.sap.ase.poker.model.rules.HandEvaluator;
+import com.sap.ase.poker.model.rules.HandRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates all 133,784,560 seven card combinations with every selected implementation in parallel. It checks that
+ * all implementations agree on every strength and that the categories match the known distribution, and reports
+ * the throughput of every implementation.
+ * <p>
+ * The combinations are split into blocks by their two lowest cards. Every block is enumerated into card masks
+ * first, so the timing of an implementation only covers its evaluation.
+ * <pre>
+ * mvn -Pbenchmark compile exec:java -Dexec.mainClass=com.sap.ase.poker.benchmark.SevenCardVerification \
+ *     -Dexec.args="reference,hand-rules,evaluator 1"
+ * </pre>
+ * The first argument selects the implementations, the first one is the reference for mismatches. The second
+ * evaluates only every n-th combination, for quick runs of the slow implementations; the category distribution
+ * is only checked without it.
+ */
+public class SevenCardVerification {
+
+    static final int CARD_AMOUNT = 7;
+    static final long COMBINATIONS = 133_784_560L;
+    static final long[] EXPECTED_CATEGORY_COUNTS = {0, 23_294_460, 58_627_800, 31_433_400, 6_461_620, 6_180_020,
+            4_047_644, 3_473_184, 224_848, 37_260, 4_324};
+    static final String[] CATEGORY_NAMES = {"", "high card", "pair", "two pairs", "three of a kind", "straight",
+            "flush", "full house", "four of a kind", "straight flush", "royal flush"};
+
+    private static final int MAX_REPORTED_MISMATCHES = 10;
+    private static final int LARGEST_BLOCK = 2_118_760;
+
+    private static final HandRules HAND_RULES = new HandRules();
+    private static final List<Function<List<Card>, Hand>> HAND_CLASSES = Arrays.asList(
+            RoyalFlush::new,
+            StraightFlush::new,
+            FourOfAKind::new,
+            FullHouse::new,
+            Flush::new,
+            Straight::new,
+            ThreeOfAKind::new,
+            TwoPairs::new,
+            Pair::new);
+
+    enum Implementation {
+        /**
+         * Tries every {@link Hand} class from the strongest to the weakest, independent of {@link HandEvaluator}
+         */
+        REFERENCE("reference") {
+            @Override
+            int evaluate(long cardMask) {
+                List<Card> cards = CardCodec.cardsOf(cardMask);
+                for (Function<List<Card>, Hand> createHand : HAND_CLASSES) {
+                    try {
+                        return createHand.apply(cards).getScore();
+                    } catch (InvalidHandException ignored) {
+                    }
+                }
+                return new HighCard(cards).getScore();
+            }
+        },
+        HAND_RULES("hand-rules") {
+            @Override
+            int evaluate(long cardMask) {
+                return SevenCardVerification.HAND_RULES.findBestHand(cardMask).getScore();
+            }
+        },
+        EVALUATOR("evaluator") {
+            @Override
+            int evaluate(long cardMask) {
+                return SevenCardVerification.HAND_RULES.evaluate(cardMask);
+            }
+        };
+
+        private final String name;
+
+        Implementation(String name) {
+            this.name = name;
+        }
+
+        abstract int evaluate(long cardMask);
+
+        static Implementation byName(String name) {
+            for (Implementation implementation : values()) {
+                if (implementation.name.equals(name)) {
+                    return implementation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown implementation " + name + ", expected one of "
+                    + Arrays.stream(values()).map(implementation -> implementation.name)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static class Result {
+        private final Implementation implementation;
+        private final AtomicLong hands = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong mismatches = new AtomicLong();
+        private final AtomicLongArray categoryCounts = new AtomicLongArray(EXPECTED_CATEGORY_COUNTS.length);
+        private final Queue<String> reportedMismatches = new ConcurrentLinkedQueue<>();
+
+        Result(Implementation implementation) {
+            this.implementation = implementation;
+        }
+    }
+
+    private final List<Result> results = new ArrayList<>();
+    private final int stride;
+    private final ThreadLocal<long[]> cardMasks = ThreadLocal.withInitial(() -> new long[LARGEST_BLOCK]);
+    private final ThreadLocal<int[]> referenceStrengths = ThreadLocal.withInitial(() -> new int[LARGEST_BLOCK]);
+    private final ThreadLocal<int[]> strengths = ThreadLocal.withInitial(() -> new int[LARGEST_BLOCK]);
+
+    SevenCardVerification(List<Implementation> implementations, int stride) {
+        for (Implementation implementation : implementations) {
+            results.add(new Result(implementation));
+        }
+        this.stride = stride;
+    }
+
+    public static void main(String[] args) {
+        List<Implementation> implementations = Arrays.stream((args.length > 0 ? args[0] : "hand-rules,evaluator")
+                .split(",")).map(Implementation::byName).collect(Collectors.toList());
+        int stride = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        SevenCardVerification verification = new SevenCardVerification(implementations, stride);
+        long start = System.nanoTime();
+        verification.run();
+        System.out.printf("%.1f s wall clock%n", (System.nanoTime() - start) / 1e9);
+
+        if (!verification.report()) {
+            throw new IllegalStateException("Verification failed");
+        }
+    }
+
+    void run() {
+        int[] blocks = IntStream.range(0, CardCodec.CARD_COUNT - CARD_AMOUNT + 1)
+                .flatMap(first -> IntStream.range(first + 1, CardCodec.CARD_COUNT - CARD_AMOUNT + 2)
+                        .map(second -> first * CardCodec.CARD_COUNT + second))
+                .toArray();
+        Arrays.stream(blocks).parallel().forEach(block ->
+                verifyBlock(block / CardCodec.CARD_COUNT, block % CardCodec.CARD_COUNT));
+    }
+
+    private void verifyBlock(int first, int second) {
+        long[] masks = cardMasks.get();
+        int amount = enumerate(1L << first | 1L << second, second + 1, CARD_AMOUNT - 2, masks, 0, new long[1]);
+        int[] reference = referenceStrengths.get();
+        int[] evaluated = strengths.get();
+
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            int[] target = i == 0 ? reference : evaluated;
+            long start = System.nanoTime();
+            for (int hand = 0; hand < amount; hand++) {
+                target[hand] = result.implementation.evaluate(masks[hand]);
+            }
+            result.nanos.addAndGet(System.nanoTime() - start);
+            result.hands.addAndGet(amount);
+
+            long[] categoryCounts = new long[EXPECTED_CATEGORY_COUNTS.length];
+            for (int hand = 0; hand < amount; hand++) {
+                categoryCounts[HandEvaluator.category(target[hand])]++;
+                if (target[hand] != reference[hand]) {
+                    reportMismatch(result, masks[hand], reference[hand], target[hand]);
+                }
+            }
+            for (int category = 0; category < categoryCounts.length; category++) {
+                result.categoryCounts.addAndGet(category, categoryCounts[category]);
+            }
+        }
+    }
+
+    /**
+     * Adds all combinations of the missing cards above the given card, keeping only every stride-th of them
+     */
+    private int enumerate(long cards, int next, int missing, long[] masks, int amount, long[] ordinal) {
+        if (missing == 0) {
+            if (ordinal[0]++ % stride == 0) {
+                masks[amount++] = cards;
+            }
+            return amount;
+        }
+        for (int card = next; card <= CardCodec.CARD_COUNT - missing; card++) {
+            amount = enumerate(cards | 1L << card, card + 1, missing - 1, masks, amount, ordinal);
+        }
+        return amount;
+    }
+
+    private void reportMismatch(Result result, long cardMask, int expected, int actual) {
+        if (result.mismatches.incrementAndGet() <= MAX_REPORTED_MISMATCHES) {
+            result.reportedMismatches.add(String.format("%s: expected %08x, got %08x",
+                    CardCodec.cardsOf(cardMask), expected, actual));
+        }
+    }
+
+    /**
+     * @return whether all implementations agree and, for full runs, match the known distribution
+     */
+    boolean report() {
+        boolean passed = true;
+        System.out.printf("%-12s %12s %10s %16s %12s%n", "", "hands", "cpu s", "hands/s/thread", "mismatches");
+        for (Result result : results) {
+            double seconds = result.nanos.get() / 1e9;
+            System.out.printf("%-12s %12d %10.1f %16.0f %12d%n", result.implementation.name, result.hands.get(),
+                    seconds, result.hands.get() / seconds, result.mismatches.get());
+            result.reportedMismatches.forEach(mismatch -> System.out.println("  " + mismatch));
+            passed &= result.mismatches.get() == 0;
+        }
+
+        if (stride != 1) {
+            System.out.println("Category distribution not checked, only every " + stride + ". hand evaluated");
+            return passed;
+        }
+        for (Result result : results) {
+            passed &= result.hands.get() == COMBINATIONS;
+        }
+        System.out.printf("%n%-16s %12s", "category", "expected");
+        results.forEach(result -> System.out.printf(" %12s", result.implementation.name));
+        System.out.println();
+        for (int category = 1; category < EXPECTED_CATEGORY_COUNTS.length; category++) {
+            System.out.printf("%-16s %12d", CATEGORY_NAMES[category], EXPECTED_CATEGORY_COUNTS[category]);
+            for (Result result : results) {
+                long count = result.categoryCounts.get(category);
+                System.out.printf(" %12d%s", count, count == EXPECTED_CATEGORY_COUNTS[category] ? "" : "!");
+                passed &= count == EXPECTED_CATEGORY_COUNTS[category];
+            }
+            System.out.println();
+        }
+        return passed;
+    }
+}
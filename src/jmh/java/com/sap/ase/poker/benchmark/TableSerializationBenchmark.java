@@ -0,0 +1,91 @@
+package com.sap.ase.poker.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.ase.poker.dto.GetTableResponseDto;
+import com.sap.ase.poker.model.deck.DeckSuppliers;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.RandomCardShuffler;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import com.sap.ase.poker.rest.TableViewCache;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a table poll: mapping the table to the dto and writing it with the same
+ * {@link ObjectMapper} setup Spring MVC uses, compared to answering it from the views cached per version
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableSerializationBenchmark {
+
+    @Param({"2", "6", "9"})
+    public int amountOfPlayers;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Principal principal = () -> "player-0";
+
+    private TableViewCache tableViewCache;
+    private TableSnapshot snapshot;
+    private GetTableResponseDto table;
+
+    @Setup
+    public void setUp() {
+        ShuffledDeckSupplier deckSupplier =
+                new ShuffledDeckSupplier(new PokerCardsSupplier(), new RandomCardShuffler());
+        TableService tableService = new TableService(deckSupplier);
+        for (int i = 0; i < amountOfPlayers; i++) {
+            tableService.addPlayer("player-" + i, "Player " + i);
+        }
+        tableService.start();
+        tableViewCache = new TableViewCache(objectMapper,
+                new TableRegistry(tableService,
+                        new DeckSuppliers(new PokerCardsSupplier(), deckSupplier, DeckSuppliers.RANDOM),
+                        Runnable::run, 0, 0));
+        snapshot = tableService.getSnapshot();
+        table = tableViewCache.toDto(snapshot, principal.getName());
+    }
+
+    @Benchmark
+    public GetTableResponseDto mapTable() {
+        return tableViewCache.toDto(snapshot, principal.getName());
+    }
+
+    @Benchmark
+    public byte[] serializeTable() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(table);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeTable() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tableViewCache.toDto(snapshot, principal.getName()));
+    }
+
+    /**
+     * A poll answered from the views cached for the current version
+     */
+    @Benchmark
+    public byte[] cachedTable() {
+        return tableViewCache.getView(TableRegistry.DEFAULT_TABLE_ID, snapshot, principal.getName());
+    }
+}
@@ -0,0 +1,100 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.RandomCardShuffler;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import com.sap.ase.poker.service.TableService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableServiceBenchmark {
+
+    private static final long HAND_SEED = 42L;
+
+    @Param({"2", "6", "9"})
+    public int amountOfPlayers;
+
+    private final ShuffledDeckSupplier deckSupplier =
+            new ShuffledDeckSupplier(new PokerCardsSupplier(), new RandomCardShuffler());
+
+    private PrintStream systemOut;
+
+    /**
+     * The service prints every action, which would flood the benchmark output
+     */
+    @Setup
+    public void silenceSystemOut() {
+        systemOut = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        }));
+    }
+
+    @TearDown
+    public void restoreSystemOut() {
+        System.setOut(systemOut);
+    }
+
+    /**
+     * Everybody checks pre flop, after that the first player raises and all others call on every street
+     * until the showdown
+     */
+    @Benchmark
+    public Optional<Player> playHand() {
+        return playHand(new TableService(deckSupplier));
+    }
+
+    /**
+     * Plays the same hand from its recorded seed, like replaying the hand history of a table
+     */
+    @Benchmark
+    public Optional<Player> replayHand() {
+        return playHand(new TableService(deckSupplier, () -> HAND_SEED));
+    }
+
+    private Optional<Player> playHand(TableService tableService) {
+        for (int i = 0; i < amountOfPlayers; i++) {
+            tableService.addPlayer("player-" + i, "Player " + i);
+        }
+        tableService.start();
+
+        for (int i = 0; i < amountOfPlayers; i++) {
+            tableService.performAction("check", 0);
+        }
+        raiseAndCallRound(tableService, 10);
+        raiseAndCallRound(tableService, 20);
+        raiseAndCallRound(tableService, 30);
+        return tableService.getWinner();
+    }
+
+    private void raiseAndCallRound(TableService tableService, int raise) {
+        tableService.performAction("raise", raise);
+        for (int i = 1; i < amountOfPlayers; i++) {
+            tableService.performAction("call", 0);
+        }
+    }
+}
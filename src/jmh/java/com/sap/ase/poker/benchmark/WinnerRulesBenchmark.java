@@ -0,0 +1,84 @@
+package com.sap.ase.poker.benchmark;
+
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.rules.HandRules;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WinnerRulesBenchmark {
+
+    @Param({"2", "6", "10"})
+    public int amountOfPlayers;
+
+    private final WinnerRules winnerRules = new WinnerRules(new HandRules());
+
+    private List<List<Card>> communityCards;
+    private List<List<Player>> players;
+    private long[] communityCardsMasks;
+    private long[][] handCardsMasks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<List<Card>> deals = Deals.deal(5 + 2 * amountOfPlayers);
+        communityCards = new ArrayList<>();
+        players = new ArrayList<>();
+        communityCardsMasks = new long[deals.size()];
+        handCardsMasks = new long[deals.size()][amountOfPlayers];
+
+        for (int i = 0; i < deals.size(); i++) {
+            List<Card> deal = deals.get(i);
+            communityCards.add(deal.subList(0, 5));
+            communityCardsMasks[i] = CardCodec.maskOf(deal.subList(0, 5));
+
+            List<Player> playersOfDeal = new ArrayList<>();
+            for (int p = 0; p < amountOfPlayers; p++) {
+                List<Card> handCards = deal.subList(5 + 2 * p, 7 + 2 * p);
+                Player player = new Player("player-" + p, "Player " + p, 100);
+                player.setHandCards(handCards);
+                playersOfDeal.add(player);
+                handCardsMasks[i][p] = CardCodec.maskOf(handCards);
+            }
+            players.add(playersOfDeal);
+        }
+    }
+
+    @Benchmark
+    public List<Player> findWinners() {
+        int deal = nextDeal();
+        return winnerRules.findWinners(communityCards.get(deal), players.get(deal)).getWinners();
+    }
+
+    @Benchmark
+    public long findWinnersOfCardMasks() {
+        int deal = nextDeal();
+        return winnerRules.findWinners(communityCardsMasks[deal], handCardsMasks[deal]);
+    }
+
+    private int nextDeal() {
+        next = (next + 1) & (Deals.DEAL_COUNT - 1);
+        return next;
+    }
+}
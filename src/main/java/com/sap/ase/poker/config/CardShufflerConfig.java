@@ -0,0 +1,21 @@
+package com.sap.ase.poker.config;
+
+import com.sap.ase.poker.model.deck.CardShuffler;
+import com.sap.ase.poker.model.deck.DeckSuppliers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the default shuffler of the tables with the property {@code poker.deck.shuffler}: {@code secure} (default),
+ * {@code simulation} for bots and load tests, or {@code random}. A table may be created with another one, see
+ * {@link DeckSuppliers}.
+ */
+@Configuration
+public class CardShufflerConfig {
+
+    @Bean
+    public CardShuffler cardShuffler(@Value("${poker.deck.shuffler:" + DeckSuppliers.SECURE + "}") String shuffler) {
+        return DeckSuppliers.createShuffler(shuffler);
+    }
+}
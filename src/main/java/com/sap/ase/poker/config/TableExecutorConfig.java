@@ -0,0 +1,43 @@
+package com.sap.ase.poker.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The threads running the mailboxes of all tables, by default one per core. The pool runs its tasks first in first
+ * out, so a table scheduled again after its batch queues up behind the others.
+ * <p>
+ * The event streams of all tables are written by a small pool of their own, so slow clients never hold up a table. A
+ * write blocked by a client that stopped reading fails after the write timeout of the streams, so it holds a thread
+ * of the pool no longer than that. The connector uses the write timeout for all its connections, it also ends idle
+ * connections between requests.
+ */
+@Configuration
+public class TableExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tableExecutor(@Value("${poker.table.executor.threads:0}") int threads) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tableStreamExecutor(@Value("${poker.table.stream.threads:2}") int threads) {
+        return Executors.newFixedThreadPool(threads);
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> streamWriteTimeout(
+            @Value("${poker.table.stream.write-timeout-millis:5000}") int writeTimeoutMillis) {
+        return factory -> factory.addConnectorCustomizers(connector ->
+                ((AbstractProtocol<?>) connector.getProtocolHandler()).setConnectionTimeout(writeTimeoutMillis));
+    }
+}
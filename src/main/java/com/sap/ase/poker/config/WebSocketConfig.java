@@ -0,0 +1,28 @@
+package com.sap.ase.poker.config;
+
+import com.sap.ase.poker.rest.TableController;
+import com.sap.ase.poker.rest.TableSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * The socket of a table, the handshake is authenticated like any other request of the table
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TableSocketHandler tableSocketHandler;
+
+    public WebSocketConfig(TableSocketHandler tableSocketHandler) {
+        this.tableSocketHandler = tableSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(tableSocketHandler, TableController.PATH + "/socket",
+                TableController.PATH + "/tables/*/socket");
+    }
+}
@@ -0,0 +1,23 @@
+package com.sap.ase.poker.dto;
+
+public class BetResultDto {
+
+	private boolean applied;
+	private String error;
+
+	public boolean isApplied() {
+		return applied;
+	}
+
+	public void setApplied(boolean applied) {
+		this.applied = applied;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+}
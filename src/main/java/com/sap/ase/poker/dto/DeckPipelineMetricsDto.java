@@ -0,0 +1,50 @@
+package com.sap.ase.poker.dto;
+
+public class DeckPipelineMetricsDto {
+
+	private int fillLevel;
+	private int targetFill;
+	private int capacity;
+	private double decksPerSecond;
+	private long fallbacks;
+
+	public int getFillLevel() {
+		return fillLevel;
+	}
+
+	public void setFillLevel(int fillLevel) {
+		this.fillLevel = fillLevel;
+	}
+
+	public int getTargetFill() {
+		return targetFill;
+	}
+
+	public void setTargetFill(int targetFill) {
+		this.targetFill = targetFill;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public double getDecksPerSecond() {
+		return decksPerSecond;
+	}
+
+	public void setDecksPerSecond(double decksPerSecond) {
+		this.decksPerSecond = decksPerSecond;
+	}
+
+	public long getFallbacks() {
+		return fallbacks;
+	}
+
+	public void setFallbacks(long fallbacks) {
+		this.fallbacks = fallbacks;
+	}
+}
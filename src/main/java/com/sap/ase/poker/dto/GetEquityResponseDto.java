@@ -0,0 +1,35 @@
+package com.sap.ase.poker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GetEquityResponseDto {
+
+	private long samples;
+	private boolean exact;
+	private List<PlayerEquityDto> players = new ArrayList<>();
+
+	public long getSamples() {
+		return samples;
+	}
+
+	public void setSamples(long samples) {
+		this.samples = samples;
+	}
+
+	public boolean isExact() {
+		return exact;
+	}
+
+	public void setExact(boolean exact) {
+		this.exact = exact;
+	}
+
+	public List<PlayerEquityDto> getPlayers() {
+		return players;
+	}
+
+	public void setPlayers(List<PlayerEquityDto> players) {
+		this.players = players;
+	}
+}
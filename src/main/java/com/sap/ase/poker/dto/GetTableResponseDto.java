@@ -7,6 +7,7 @@ import java.util.Map;
 
 public class GetTableResponseDto {
 
+	private long version;
 	private List<PlayerDto> players = new ArrayList<>();
 	private List<CardDto> playerCards = new ArrayList<>();
 	private PlayerDto currentPlayer;
@@ -23,6 +24,14 @@ public class GetTableResponseDto {
 	public GetTableResponseDto(String uiPlayerName) {
 	}
 
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
 	public List<PlayerDto> getPlayers() {
 		return players;
 	}
@@ -0,0 +1,51 @@
+package com.sap.ase.poker.dto;
+
+public class PlayerEquityDto {
+
+    private String playerId;
+    private double win;
+    private double tie;
+    private double equity;
+
+    public PlayerEquityDto() {
+    }
+
+    public PlayerEquityDto(String playerId, double win, double tie, double equity) {
+        this.playerId = playerId;
+        this.win = win;
+        this.tie = tie;
+        this.equity = equity;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(String playerId) {
+        this.playerId = playerId;
+    }
+
+    public double getWin() {
+        return win;
+    }
+
+    public void setWin(double win) {
+        this.win = win;
+    }
+
+    public double getTie() {
+        return tie;
+    }
+
+    public void setTie(double tie) {
+        this.tie = tie;
+    }
+
+    public double getEquity() {
+        return equity;
+    }
+
+    public void setEquity(double equity) {
+        this.equity = equity;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sap.ase.poker.dto;
+
+public class SocketErrorDto {
+
+	private String error;
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+}
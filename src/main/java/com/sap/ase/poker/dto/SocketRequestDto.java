@@ -0,0 +1,23 @@
+package com.sap.ase.poker.dto;
+
+public class SocketRequestDto {
+
+	private Long ack;
+	private BetRequestDto action;
+
+	public Long getAck() {
+		return ack;
+	}
+
+	public void setAck(Long ack) {
+		this.ack = ack;
+	}
+
+	public BetRequestDto getAction() {
+		return action;
+	}
+
+	public void setAction(BetRequestDto action) {
+		this.action = action;
+	}
+}
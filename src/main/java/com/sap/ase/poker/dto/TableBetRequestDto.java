@@ -0,0 +1,14 @@
+package com.sap.ase.poker.dto;
+
+public class TableBetRequestDto extends BetRequestDto {
+
+	private String tableId;
+
+	public String getTableId() {
+		return tableId;
+	}
+
+	public void setTableId(String tableId) {
+		this.tableId = tableId;
+	}
+}
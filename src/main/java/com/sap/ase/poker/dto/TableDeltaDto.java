@@ -0,0 +1,34 @@
+package com.sap.ase.poker.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class TableDeltaDto {
+
+	private String epoch;
+	private long baseVersion;
+	private JsonNode changes;
+
+	public String getEpoch() {
+		return epoch;
+	}
+
+	public void setEpoch(String epoch) {
+		this.epoch = epoch;
+	}
+
+	public long getBaseVersion() {
+		return baseVersion;
+	}
+
+	public void setBaseVersion(long baseVersion) {
+		this.baseVersion = baseVersion;
+	}
+
+	public JsonNode getChanges() {
+		return changes;
+	}
+
+	public void setChanges(JsonNode changes) {
+		this.changes = changes;
+	}
+}
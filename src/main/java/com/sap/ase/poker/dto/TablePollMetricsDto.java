@@ -0,0 +1,32 @@
+package com.sap.ase.poker.dto;
+
+public class TablePollMetricsDto {
+
+	private long polls;
+	private long notModified;
+	private double notModifiedRatio;
+
+	public long getPolls() {
+		return polls;
+	}
+
+	public void setPolls(long polls) {
+		this.polls = polls;
+	}
+
+	public long getNotModified() {
+		return notModified;
+	}
+
+	public void setNotModified(long notModified) {
+		this.notModified = notModified;
+	}
+
+	public double getNotModifiedRatio() {
+		return notModifiedRatio;
+	}
+
+	public void setNotModifiedRatio(double notModifiedRatio) {
+		this.notModifiedRatio = notModifiedRatio;
+	}
+}
@@ -0,0 +1,76 @@
+package com.sap.ase.poker.model.deck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps every card to an index from 0 to 51 ({@code suit * 13 + kind}) and to the bit with that index in a
+ * long mask. Hot paths work on these primitives, {@link Card} objects are only needed at the edges.
+ */
+public class CardCodec {
+
+    public static final int RANK_COUNT = Kind.values().length;
+    public static final int SUIT_COUNT = Suit.values().length;
+    public static final int CARD_COUNT = RANK_COUNT * SUIT_COUNT;
+    public static final long FULL_DECK_MASK = (1L << CARD_COUNT) - 1;
+
+    private static final Card[] CARDS = new Card[CARD_COUNT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Kind kind : Kind.values()) {
+                Card card = new Card(kind, suit);
+                CARDS[indexOf(card)] = card;
+            }
+        }
+    }
+
+    private CardCodec() {
+    }
+
+    public static int indexOf(Card card) {
+        return card.getSuit().ordinal() * RANK_COUNT + card.getKind().ordinal();
+    }
+
+    public static long maskOf(Card card) {
+        return 1L << indexOf(card);
+    }
+
+    public static long maskOf(List<Card> cards) {
+        long mask = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            mask |= maskOf(cards.get(i));
+        }
+        return mask;
+    }
+
+    public static long maskOf(int[] cardIndexes) {
+        long mask = 0;
+        for (int cardIndex : cardIndexes) {
+            mask |= 1L << cardIndex;
+        }
+        return mask;
+    }
+
+    /**
+     * The returned cards are shared instances, so decoding never allocates.
+     */
+    public static Card cardOf(int cardIndex) {
+        return CARDS[cardIndex];
+    }
+
+    public static List<Card> cardsOf(long mask) {
+        List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            cards.add(CARDS[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return cards;
+    }
+
+    /**
+     * 13 bit mask of the kinds of the given suit, bit 0 is {@link Kind#TWO}
+     */
+    public static int kindsOfSuit(long mask, int suitOrdinal) {
+        return (int) (mask >>> (suitOrdinal * RANK_COUNT)) & ((1 << RANK_COUNT) - 1);
+    }
+}
@@ -1,31 +1,140 @@
 package com.sap.ase.poker.model.deck;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
 
+/**
+ * The cards are kept in an array with a cursor to the next card, drawing never shifts or allocates.
+ * <p>
+ * An incremental shuffle puts the cards back into the order of the supply and resets the cursor. Every draw swaps a
+ * card of the remaining ones to the cursor, a Fisher-Yates shuffle that stops after the cards actually dealt.
+ * <ul>
+ * <li>A seeded shuffle picks the swaps with a {@link SplittableRandom} of the seed, the same seed always deals the
+ * same cards, so a hand can be reproduced from its seed. A {@link SeededCardShuffler} seeds every shuffle.</li>
+ * <li>Any other {@link IncrementalCardShuffler} picks every swap itself, e.g. from a secure random.</li>
+ * <li>Any other {@link CardShuffler} orders the whole deck on every unseeded shuffle.</li>
+ * </ul>
+ */
 public class Deck {
-    private List<Card> cards;
+    private final Card[] cards;
     private final CardShuffler cardShuffler;
+    private final IncrementalCardShuffler incrementalCardShuffler;
+    private final SeededCardShuffler seededCardShuffler;
     private final List<Card> pokerCardsSupply;
+    private int size;
+    private int next;
+    private int randomizedUntil;
+    /**
+     * Picks the swaps of the current shuffle, null while the whole deck is ordered
+     */
+    private IncrementalCardShuffler random;
+    private OptionalLong seed = OptionalLong.empty();
 
     public Deck(List<Card> pokerCardsSupply, CardShuffler cardShuffler) {
         this.pokerCardsSupply = new ArrayList<>(pokerCardsSupply);
-        this.cards = new ArrayList<>(pokerCardsSupply);
+        this.cards = pokerCardsSupply.toArray(new Card[0]);
         this.cardShuffler = cardShuffler;
+        this.incrementalCardShuffler = cardShuffler instanceof IncrementalCardShuffler
+                ? (IncrementalCardShuffler) cardShuffler
+                : null;
+        this.seededCardShuffler = cardShuffler instanceof SeededCardShuffler
+                ? (SeededCardShuffler) cardShuffler
+                : null;
+        this.size = cards.length;
+        this.randomizedUntil = size;
     }
 
+    /**
+     * The cards left in the order they will be drawn, this fixes the order of all of them
+     */
     public List<Card> getCards() {
-        return cards;
+        randomizeRemaining();
+        return new ArrayList<>(Arrays.asList(cards).subList(next, size));
+    }
+
+    /**
+     * Fixes the order of all cards left, so drawing them does not use the random of the seed anymore
+     */
+    public void randomizeRemaining() {
+        while (randomizedUntil < size) {
+            randomizeNext(randomizedUntil);
+        }
     }
 
     public Card draw() {
-        if (cards.isEmpty()) {
+        if (next == size) {
             throw new OutOfCardsException("No cards left to draw.");
         }
-        return cards.remove(0);
+        if (next == randomizedUntil) {
+            randomizeNext(next);
+        }
+        return cards[next++];
     }
 
+    /**
+     * Draws the next card as {@link CardCodec} index
+     */
+    public int drawIndex() {
+        return CardCodec.indexOf(draw());
+    }
+
+    /**
+     * Puts all cards back, in a new random order
+     */
     public void shuffle() {
-        cards = cardShuffler.shuffle(pokerCardsSupply);
+        if (seededCardShuffler != null) {
+            shuffle(seededCardShuffler.nextSeed());
+        } else if (incrementalCardShuffler != null) {
+            shuffleIncrementally(incrementalCardShuffler);
+            seed = OptionalLong.empty();
+        } else {
+            List<Card> shuffled = cardShuffler.shuffle(pokerCardsSupply);
+            for (int i = 0; i < shuffled.size(); i++) {
+                cards[i] = shuffled.get(i);
+            }
+            size = shuffled.size();
+            next = 0;
+            randomizedUntil = size;
+            random = null;
+            seed = OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Puts all cards back, in the order given by the seed independent of the shuffler and of any previous hand
+     */
+    public void shuffle(long seed) {
+        shuffleIncrementally(new SplittableRandom(seed)::nextInt);
+        this.seed = OptionalLong.of(seed);
+    }
+
+    /**
+     * @return the seed of the last shuffle, empty if the cards were not ordered by a seed or never shuffled
+     */
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    private void shuffleIncrementally(IncrementalCardShuffler random) {
+        pokerCardsSupply.toArray(cards);
+        size = cards.length;
+        next = 0;
+        randomizedUntil = 0;
+        this.random = random;
+    }
+
+    /**
+     * Swaps a random card of the not yet randomized ones to the given position. The cards before it are already
+     * permuted, so the remaining ones are the same set in any order and a uniform pick keeps the shuffle uniform.
+     */
+    private void randomizeNext(int position) {
+        int picked = random.nextIndex(position, size);
+        Card card = cards[picked];
+        cards[picked] = cards[position];
+        cards[position] = card;
+        randomizedUntil = position + 1;
     }
 }
@@ -0,0 +1,84 @@
+package com.sap.ase.poker.model.deck;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded queue of decks without locks, for one producer and any number of consumers.
+ * <p>
+ * Every slot has a sequence number telling whether it is free for the producer at a position or filled for the
+ * consumer at a position. Consumers claim a position with one compare-and-set on the head and never wait: a
+ * consumer losing the race for a deck gets none, like on an empty buffer, instead of spinning.
+ */
+public class DeckRingBuffer {
+
+    private final AtomicReferenceArray<Deck> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to the next power of two, at least two
+     */
+    public DeckRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, but was " + capacity);
+        }
+        int slotCount = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.sequences = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Must only be called by one thread at a time
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(Deck deck) {
+        long position = tail.get();
+        int slot = (int) position & mask;
+        if (sequences.get(slot) != position) {
+            return false;
+        }
+        slots.lazySet(slot, deck);
+        sequences.set(slot, position + 1);
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * @return the oldest deck, null if the buffer is empty or another consumer took it at the same time
+     */
+    public Deck poll() {
+        return poll(head.get());
+    }
+
+    Deck poll(long position) {
+        int slot = (int) position & mask;
+        if (sequences.get(slot) != position + 1 || !head.compareAndSet(position, position + 1)) {
+            return null;
+        }
+        Deck deck = slots.get(slot);
+        slots.lazySet(slot, null);
+        sequences.set(slot, position + mask + 1);
+        return deck;
+    }
+
+    /**
+     * Amount of decks in the buffer, only a snapshot while consumers are running
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, getCapacity()));
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sap.ase.poker.model.deck;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The decks of the tables by the name of their shuffler. Tables with the shuffler of {@code poker.deck.shuffler} get
+ * their decks from the buffer of ready decks. A table created with another shuffler shuffles its decks when it deals,
+ * all tables with that shuffler share one instance of it.
+ */
+@Component
+public class DeckSuppliers {
+
+    public static final String SECURE = "secure";
+    public static final String SIMULATION = "simulation";
+    public static final String RANDOM = "random";
+    public static final List<String> SHUFFLERS = Arrays.asList(SECURE, SIMULATION, RANDOM);
+
+    private final Supplier<List<Card>> cardSupplier;
+    private final Supplier<Deck> defaultDecks;
+    private final String defaultShuffler;
+    private final Map<String, Supplier<Deck>> decks = new ConcurrentHashMap<>();
+
+    public DeckSuppliers(Supplier<List<Card>> cardSupplier, Supplier<Deck> defaultDecks,
+            @Value("${poker.deck.shuffler:" + SECURE + "}") String defaultShuffler) {
+        this.cardSupplier = cardSupplier;
+        this.defaultDecks = defaultDecks;
+        this.defaultShuffler = defaultShuffler;
+    }
+
+    /**
+     * @param shuffler one of {@link #SHUFFLERS}, null for the shuffler of {@code poker.deck.shuffler}
+     */
+    public Supplier<Deck> get(String shuffler) {
+        if (shuffler == null || shuffler.equals(defaultShuffler)) {
+            return defaultDecks;
+        }
+        return decks.computeIfAbsent(shuffler, name -> {
+            CardShuffler cardShuffler = createShuffler(name);
+            return () -> {
+                Deck deck = new Deck(cardSupplier.get(), cardShuffler);
+                deck.shuffle();
+                return deck;
+            };
+        });
+    }
+
+    public static CardShuffler createShuffler(String shuffler) {
+        switch (shuffler) {
+            case SECURE:
+                return new SecureCardShuffler();
+            case SIMULATION:
+                return new SimulationCardShuffler();
+            case RANDOM:
+                return new RandomCardShuffler();
+            default:
+                throw new IllegalArgumentException("Unknown shuffler " + shuffler
+                        + ", expected one of " + String.join(", ", SHUFFLERS));
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.sap.ase.poker.model.deck;
+
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Maps the cards dealt in a sequence of rounds to a dense index per round. Hands that only differ by a permutation
+ * of suits, or by the order of cards within a round, get the same index, see
+ * <a href="https://www.cs.cmu.edu/~kwaugh/publications/isomorphism13.pdf">Waugh, A Fast and Optimal Hand
+ * Isomorphism Algorithm</a>.
+ * <p>
+ * Every suit is described by the amount of its cards per round, its configuration, and the index of its ranks
+ * among all rank sets with that configuration. Suits are sorted by both, so suits with equal configurations are a
+ * multiset of rank set indexes. The configurations of all four suits select an offset, the multisets the index
+ * relative to it.
+ * <p>
+ * Cards are {@link CardCodec} indexes, the cards of all rounds up to the indexed one are passed in round order.
+ */
+public class HandIndexer {
+
+    private static final int MAX_ROUNDS = 4;
+    private static final int COUNT_BITS = 4;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    private static final int SUIT_CONFIGURATION_BITS = MAX_ROUNDS * COUNT_BITS;
+    private static final int RANK_COUNT = CardCodec.RANK_COUNT;
+    private static final int SUIT_COUNT = CardCodec.SUIT_COUNT;
+    private static final long[][] RANK_COMBINATIONS = new long[RANK_COUNT + 1][RANK_COUNT + 1];
+
+    static {
+        for (int n = 0; n <= RANK_COUNT; n++) {
+            RANK_COMBINATIONS[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                RANK_COMBINATIONS[n][k] = RANK_COMBINATIONS[n - 1][k - 1] + RANK_COMBINATIONS[n - 1][k];
+            }
+        }
+    }
+
+    /*
+     * The indexers are initialized after the tables they depend on
+     */
+
+    /**
+     * Hand cards, flop, turn and river as separate rounds, for tables that depend on the order the board was dealt in
+     */
+    public static final HandIndexer HOLDEM = new HandIndexer(2, 3, 1, 1);
+
+    /**
+     * Hand cards followed by the whole board as one round, enough for anything that only depends on the final cards
+     * of a street, such as equities
+     */
+    public static final HandIndexer PREFLOP = new HandIndexer(2);
+    public static final HandIndexer FLOP = new HandIndexer(2, 3);
+    public static final HandIndexer TURN = new HandIndexer(2, 4);
+    public static final HandIndexer RIVER = new HandIndexer(2, 5);
+
+    private final int[] roundEnds;
+    private final long[][] configurations;
+    private final long[][] offsets;
+
+    public HandIndexer(int... cardsPerRound) {
+        if (cardsPerRound.length == 0 || cardsPerRound.length > MAX_ROUNDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_ROUNDS + " rounds supported");
+        }
+        roundEnds = new int[cardsPerRound.length];
+        int cards = 0;
+        for (int round = 0; round < cardsPerRound.length; round++) {
+            if (cardsPerRound[round] < 1) {
+                throw new IllegalArgumentException("Every round needs at least one card");
+            }
+            cards += cardsPerRound[round];
+            roundEnds[round] = cards;
+        }
+        if (cards > CardCodec.CARD_COUNT) {
+            throw new InvalidAmountOfCardsException("At most " + CardCodec.CARD_COUNT + " cards possible");
+        }
+
+        configurations = new long[cardsPerRound.length][];
+        offsets = new long[cardsPerRound.length][];
+        for (int round = 0; round < cardsPerRound.length; round++) {
+            TreeSet<Long> keys = new TreeSet<>();
+            enumerateConfigurations(cardsPerRound, round, 0, 0, cardsPerRound[0], new int[SUIT_COUNT],
+                    new int[SUIT_COUNT], keys);
+            configurations[round] = keys.stream().mapToLong(Long::longValue).toArray();
+            offsets[round] = new long[configurations[round].length + 1];
+            for (int i = 0; i < configurations[round].length; i++) {
+                offsets[round][i + 1] = offsets[round][i] + countHands(configurations[round][i], round);
+            }
+        }
+    }
+
+    /**
+     * The indexer of hand cards and the given amount of community cards
+     */
+    public static HandIndexer ofStreet(int amountOfCommunityCards) {
+        switch (amountOfCommunityCards) {
+            case 0:
+                return PREFLOP;
+            case 3:
+                return FLOP;
+            case 4:
+                return TURN;
+            case 5:
+                return RIVER;
+            default:
+                throw new InvalidAmountOfCardsException(amountOfCommunityCards + " community cards are no street");
+        }
+    }
+
+    public int getRounds() {
+        return roundEnds.length;
+    }
+
+    /**
+     * Amount of distinct indexes of the given round
+     */
+    public long size(int round) {
+        long[] roundOffsets = offsets[round];
+        return roundOffsets[roundOffsets.length - 1];
+    }
+
+    /**
+     * Index of hand and community cards, the round follows from the amount of community cards
+     */
+    public long index(List<Card> handCards, List<Card> communityCards) {
+        int[] cards = new int[handCards.size() + communityCards.size()];
+        for (int i = 0; i < handCards.size(); i++) {
+            cards[i] = CardCodec.indexOf(handCards.get(i));
+        }
+        for (int i = 0; i < communityCards.size(); i++) {
+            cards[handCards.size() + i] = CardCodec.indexOf(communityCards.get(i));
+        }
+        return index(cards);
+    }
+
+    /**
+     * @param cards the cards of every round up to the indexed one, the round follows from their amount
+     */
+    public long index(int[] cards) {
+        int round = roundOf(cards.length);
+        int[][] ranksPerRound = new int[SUIT_COUNT][round + 1];
+        long dealt = 0;
+        int card = 0;
+        for (int r = 0; r <= round; r++) {
+            for (; card < roundEnds[r]; card++) {
+                long cardMask = 1L << cards[card];
+                if ((dealt & cardMask) != 0) {
+                    throw new IllegalArgumentException("Every card may only be dealt once");
+                }
+                dealt |= cardMask;
+                ranksPerRound[cards[card] / RANK_COUNT][r] |= 1 << cards[card] % RANK_COUNT;
+            }
+        }
+
+        int[] suitConfigurations = new int[SUIT_COUNT];
+        long[] suitIndexes = new long[SUIT_COUNT];
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            int used = 0;
+            for (int r = 0; r <= round; r++) {
+                int ranks = ranksPerRound[suit][r];
+                int amount = Integer.bitCount(ranks);
+                suitConfigurations[suit] = suitConfigurations[suit] << COUNT_BITS | amount;
+                suitIndexes[suit] = suitIndexes[suit] * RANK_COMBINATIONS[RANK_COUNT - Integer.bitCount(used)][amount]
+                        + indexOfRanks(ranks, used);
+                used |= ranks;
+            }
+        }
+        sortSuits(suitConfigurations, suitIndexes);
+
+        int configuration = Arrays.binarySearch(configurations[round], keyOf(suitConfigurations));
+        long index = 0;
+        for (int start = 0, end; start < SUIT_COUNT; start = end) {
+            end = endOfGroup(suitConfigurations, start);
+            int amountOfSuits = end - start;
+            long suitHands = countSuitHands(suitConfigurations[start], round);
+            long multisetIndex = 0;
+            for (int i = start; i < end; i++) {
+                multisetIndex += combinations(suitIndexes[i] + end - 1 - i, end - i);
+            }
+            index = index * combinations(suitHands + amountOfSuits - 1, amountOfSuits) + multisetIndex;
+        }
+        return offsets[round][configuration] + index;
+    }
+
+    /**
+     * A hand with the given index, suits are assigned in order of their configurations
+     *
+     * @return the cards of every round up to the given one as {@link CardCodec} indexes
+     */
+    public int[] unindex(int round, long index) {
+        if (index < 0 || index >= size(round)) {
+            throw new IllegalArgumentException("Index " + index + " out of range for round " + round);
+        }
+        long[] roundOffsets = offsets[round];
+        int configuration = Arrays.binarySearch(roundOffsets, index);
+        if (configuration < 0) {
+            configuration = -configuration - 2;
+        }
+        int[] suitConfigurations = suitConfigurationsOf(configurations[round][configuration]);
+
+        long[] suitIndexes = new long[SUIT_COUNT];
+        long remaining = index - roundOffsets[configuration];
+        for (int end = SUIT_COUNT, start; end > 0; end = start) {
+            start = startOfGroup(suitConfigurations, end);
+            int amountOfSuits = end - start;
+            long suitHands = countSuitHands(suitConfigurations[start], round);
+            long multisets = combinations(suitHands + amountOfSuits - 1, amountOfSuits);
+            long multisetIndex = remaining % multisets;
+            remaining /= multisets;
+            for (int i = start; i < end; i++) {
+                long value = largestWithCombinationsAtMost(end - i, multisetIndex, suitHands + end - 1 - i);
+                multisetIndex -= combinations(value, end - i);
+                suitIndexes[i] = value - (end - 1 - i);
+            }
+        }
+
+        int[] cards = new int[roundEnds[round]];
+        int[] nextCardOfRound = new int[round + 1];
+        for (int r = 1; r <= round; r++) {
+            nextCardOfRound[r] = roundEnds[r - 1];
+        }
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            int[] ranksPerRound = ranksOfSuit(suitConfigurations[suit], suitIndexes[suit], round);
+            for (int r = 0; r <= round; r++) {
+                for (int ranks = ranksPerRound[r]; ranks != 0; ranks &= ranks - 1) {
+                    cards[nextCardOfRound[r]++] = suit * RANK_COUNT + Integer.numberOfTrailingZeros(ranks);
+                }
+            }
+        }
+        return cards;
+    }
+
+    private int roundOf(int amountOfCards) {
+        for (int round = 0; round < roundEnds.length; round++) {
+            if (roundEnds[round] == amountOfCards) {
+                return round;
+            }
+        }
+        throw new InvalidAmountOfCardsException(amountOfCards + " cards do not complete a round");
+    }
+
+    private static void enumerateConfigurations(int[] cardsPerRound, int lastRound, int round, int suit,
+                                                int remainingCards, int[] suitConfigurations, int[] suitCards,
+                                                TreeSet<Long> keys) {
+        if (suit == SUIT_COUNT) {
+            if (remainingCards > 0) {
+                return;
+            }
+            if (round == lastRound) {
+                int[] sorted = suitConfigurations.clone();
+                sortSuits(sorted, new long[SUIT_COUNT]);
+                keys.add(keyOf(sorted));
+                return;
+            }
+            enumerateConfigurations(cardsPerRound, lastRound, round + 1, 0, cardsPerRound[round + 1],
+                    suitConfigurations, suitCards, keys);
+            return;
+        }
+        int maxAmount = Math.min(remainingCards, RANK_COUNT - suitCards[suit]);
+        for (int amount = 0; amount <= maxAmount; amount++) {
+            int configuration = suitConfigurations[suit];
+            suitConfigurations[suit] = configuration << COUNT_BITS | amount;
+            suitCards[suit] += amount;
+            enumerateConfigurations(cardsPerRound, lastRound, round, suit + 1, remainingCards - amount,
+                    suitConfigurations, suitCards, keys);
+            suitCards[suit] -= amount;
+            suitConfigurations[suit] = configuration;
+        }
+    }
+
+    private static long keyOf(int[] sortedSuitConfigurations) {
+        long key = 0;
+        for (int suitConfiguration : sortedSuitConfigurations) {
+            key = key << SUIT_CONFIGURATION_BITS | suitConfiguration;
+        }
+        return key;
+    }
+
+    /**
+     * Sorts by configuration and then by index, both descending. Four elements, so insertion sort is enough.
+     */
+    private static void sortSuits(int[] suitConfigurations, long[] suitIndexes) {
+        for (int i = 1; i < SUIT_COUNT; i++) {
+            int configuration = suitConfigurations[i];
+            long index = suitIndexes[i];
+            int j = i;
+            while (j > 0 && (suitConfigurations[j - 1] < configuration
+                    || suitConfigurations[j - 1] == configuration && suitIndexes[j - 1] < index)) {
+                suitConfigurations[j] = suitConfigurations[j - 1];
+                suitIndexes[j] = suitIndexes[j - 1];
+                j--;
+            }
+            suitConfigurations[j] = configuration;
+            suitIndexes[j] = index;
+        }
+    }
+
+    private static int endOfGroup(int[] sortedSuitConfigurations, int start) {
+        int end = start + 1;
+        while (end < SUIT_COUNT && sortedSuitConfigurations[end] == sortedSuitConfigurations[start]) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int startOfGroup(int[] sortedSuitConfigurations, int end) {
+        int start = end - 1;
+        while (start > 0 && sortedSuitConfigurations[start - 1] == sortedSuitConfigurations[end - 1]) {
+            start--;
+        }
+        return start;
+    }
+
+    private static int[] suitConfigurationsOf(long key) {
+        int[] suitConfigurations = new int[SUIT_COUNT];
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            suitConfigurations[suit] = (int) (key >>> (SUIT_COUNT - 1 - suit) * SUIT_CONFIGURATION_BITS)
+                    & (1 << SUIT_CONFIGURATION_BITS) - 1;
+        }
+        return suitConfigurations;
+    }
+
+    private static long countHands(long key, int round) {
+        int[] suitConfigurations = suitConfigurationsOf(key);
+        long hands = 1;
+        for (int start = 0, end; start < SUIT_COUNT; start = end) {
+            end = endOfGroup(suitConfigurations, start);
+            hands *= combinations(countSuitHands(suitConfigurations[start], round) + end - start - 1, end - start);
+        }
+        return hands;
+    }
+
+    /**
+     * Amount of rank sets a single suit with the given configuration can hold
+     */
+    private static long countSuitHands(int suitConfiguration, int round) {
+        long hands = 1;
+        int used = 0;
+        for (int r = 0; r <= round; r++) {
+            int amount = suitConfiguration >>> (round - r) * COUNT_BITS & COUNT_MASK;
+            hands *= RANK_COMBINATIONS[RANK_COUNT - used][amount];
+            used += amount;
+        }
+        return hands;
+    }
+
+    /**
+     * Colexicographic index of the ranks among all sets of the same size, counting only the ranks not used yet
+     */
+    private static long indexOfRanks(int ranks, int used) {
+        long index = 0;
+        int k = 1;
+        for (int remaining = ranks; remaining != 0; remaining &= remaining - 1, k++) {
+            int rank = Integer.numberOfTrailingZeros(remaining);
+            int position = rank - Integer.bitCount(used & (1 << rank) - 1);
+            index += RANK_COMBINATIONS[position][k];
+        }
+        return index;
+    }
+
+    private static int[] ranksOfSuit(int suitConfiguration, long suitIndex, int round) {
+        int[] amounts = new int[round + 1];
+        int[] available = new int[round + 1];
+        int used = 0;
+        for (int r = 0; r <= round; r++) {
+            amounts[r] = suitConfiguration >>> (round - r) * COUNT_BITS & COUNT_MASK;
+            available[r] = RANK_COUNT - used;
+            used += amounts[r];
+        }
+        long[] rankIndexes = new long[round + 1];
+        long remaining = suitIndex;
+        for (int r = round; r >= 0; r--) {
+            long rankSets = RANK_COMBINATIONS[available[r]][amounts[r]];
+            rankIndexes[r] = remaining % rankSets;
+            remaining /= rankSets;
+        }
+
+        int[] ranksPerRound = new int[round + 1];
+        int usedRanks = 0;
+        for (int r = 0; r <= round; r++) {
+            long rankIndex = rankIndexes[r];
+            for (int k = amounts[r]; k > 0; k--) {
+                int position = k - 1;
+                while (position + 1 < available[r] && RANK_COMBINATIONS[position + 1][k] <= rankIndex) {
+                    position++;
+                }
+                rankIndex -= RANK_COMBINATIONS[position][k];
+                ranksPerRound[r] |= 1 << nthUnusedRank(usedRanks, position);
+            }
+            usedRanks |= ranksPerRound[r];
+        }
+        return ranksPerRound;
+    }
+
+    private static int nthUnusedRank(int used, int n) {
+        int unused = ~used & (1 << RANK_COUNT) - 1;
+        for (int i = 0; i < n; i++) {
+            unused &= unused - 1;
+        }
+        return Integer.numberOfTrailingZeros(unused);
+    }
+
+    /**
+     * Largest value v in [k - 1, max] with combinations(v, k) not greater than the given amount
+     */
+    private static long largestWithCombinationsAtMost(int k, long amount, long max) {
+        long low = k - 1;
+        long high = max;
+        while (low < high) {
+            long middle = (low + high + 1) >>> 1;
+            if (combinations(middle, k) <= amount) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static long combinations(long n, int k) {
+        long combinations = 1;
+        for (int i = 0; i < k; i++) {
+            combinations = combinations * (n - i) / (i + 1);
+        }
+        return combinations;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sap.ase.poker.model.deck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link CardShuffler} that can also pick single indexes, so a {@link Deck} only randomizes the cards it actually
+ * deals instead of ordering the whole deck upfront
+ */
+public interface IncrementalCardShuffler extends CardShuffler {
+
+    /**
+     * @return a uniformly distributed index from {@code from} (inclusive) to {@code to} (exclusive)
+     */
+    int nextIndex(int from, int to);
+
+    /**
+     * Fisher-Yates shuffle of a copy of the cards based on {@link #nextIndex(int, int)}
+     */
+    @Override
+    default List<Card> shuffle(List<Card> cards) {
+        List<Card> shuffled = new ArrayList<>(cards);
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            Collections.swap(shuffled, i, nextIndex(0, i + 1));
+        }
+        return shuffled;
+    }
+}
@@ -1,18 +1,26 @@
 package com.sap.ase.poker.model.deck;
 
-import org.springframework.stereotype.Component;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
-@Component
-public class RandomCardShuffler implements CardShuffler {
+public class RandomCardShuffler implements SeededCardShuffler {
 
     @Override
     public List<Card> shuffle(List<Card> cards) {
         ArrayList<Card> shuffled = new ArrayList<>(cards);
-        Collections.shuffle(shuffled);
-        return new ArrayList<>(shuffled);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled;
+    }
+
+    @Override
+    public int nextIndex(int from, int to) {
+        return ThreadLocalRandom.current().nextInt(from, to);
+    }
+
+    @Override
+    public long nextSeed() {
+        return ThreadLocalRandom.current().nextLong();
     }
 }
@@ -0,0 +1,93 @@
+package com.sap.ase.poker.model.deck;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Shuffler for tables played for money, based on a {@link SecureRandom}.
+ * <p>
+ * Asking the secure random for every card would synchronize all request threads on it for a few bytes each.
+ * Instead every thread has two buffers of random bytes: it draws its indexes from one while a background thread
+ * fills the other with one call, and swaps them once the first is used up. A thread only waits for the secure
+ * random if it uses up a buffer before the other one is filled, e.g. on its very first draw.
+ * <p>
+ * It provides no seeds: a deck of this shuffler picks every card it deals with {@link #nextIndex(int, int)}, so the
+ * order has the full entropy of the secure random instead of 64 bits.
+ */
+public class SecureCardShuffler implements IncrementalCardShuffler {
+
+    static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private final SecureRandom secureRandom;
+    private final Executor refiller;
+    private final ThreadLocal<Buffers> buffers;
+
+    public SecureCardShuffler() {
+        this(new SecureRandom(), DEFAULT_BUFFER_SIZE, Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "secure-card-shuffler");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    SecureCardShuffler(SecureRandom secureRandom, int bufferSize, Executor refiller) {
+        if (bufferSize < Integer.BYTES || bufferSize % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Buffer size must be a positive multiple of " + Integer.BYTES);
+        }
+        this.secureRandom = secureRandom;
+        this.refiller = refiller;
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(bufferSize));
+    }
+
+    /**
+     * Rejects the random values of the incomplete last range like {@link java.util.Random#nextInt(int)}, so every
+     * index is exactly equally likely
+     */
+    @Override
+    public int nextIndex(int from, int to) {
+        int bound = to - from;
+        int bits;
+        int value;
+        do {
+            bits = nextInt() >>> 1;
+            value = bits % bound;
+        } while (bits - value + (bound - 1) < 0);
+        return from + value;
+    }
+
+    private int nextInt() {
+        return buffers.get().nextInt();
+    }
+
+    private CompletableFuture<byte[]> refill(byte[] bytes) {
+        return CompletableFuture.supplyAsync(() -> {
+            secureRandom.nextBytes(bytes);
+            return bytes;
+        }, refiller);
+    }
+
+    /**
+     * The buffers of one thread: the one drawn from and the one being filled
+     */
+    private class Buffers {
+        private ByteBuffer current;
+        private CompletableFuture<byte[]> next;
+
+        Buffers(int bufferSize) {
+            current = (ByteBuffer) ByteBuffer.allocate(bufferSize).position(bufferSize);
+            next = refill(new byte[bufferSize]);
+        }
+
+        int nextInt() {
+            if (!current.hasRemaining()) {
+                byte[] filled = next.join();
+                next = refill(current.array());
+                current = ByteBuffer.wrap(filled);
+            }
+            return current.getInt();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.sap.ase.poker.model.deck;
+
+/**
+ * An {@link IncrementalCardShuffler} that provides a seed per hand, the {@link Deck} derives the order of its cards
+ * from that seed with a {@link java.util.SplittableRandom}, so a hand can be reproduced from its seed. The order is
+ * only as unpredictable as 64 bits and a non-cryptographic random, so only for simulations and replays.
+ */
+public interface SeededCardShuffler extends IncrementalCardShuffler {
+
+    /**
+     * @return a seed for {@link Deck#shuffle(long)} with all 64 bits random
+     */
+    long nextSeed();
+}
@@ -1,22 +1,113 @@
 package com.sap.ase.poker.model.deck;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+/**
+ * Hands out shuffled decks from a buffer of ready decks, so a burst of tables starting at the same moment does not
+ * shuffle on the request threads. The buffer is refilled in the background, up to the decks taken within
+ * {@link #LEAD_TIME_SECONDS} at the observed rate, and the order of all cards of a buffered deck is fixed right
+ * away, so drawing from it does not touch any random either. Once the buffer is drained the decks are shuffled
+ * inline again.
+ */
 @Component
 public class ShuffledDeckSupplier implements Supplier<Deck> {
 
+    public static final int DEFAULT_CAPACITY = 1024;
+    static final int MIN_FILL = 8;
+    static final double LEAD_TIME_SECONDS = 1.0;
+    static final double RATE_SMOOTHING = 0.2;
+
     private final Supplier<List<Card>> cardSupplier;
     private final CardShuffler cardShuffler;
+    private final DeckRingBuffer readyDecks;
+    private final LongAdder decksTaken = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private long lastRefillNanos;
+    private volatile double decksPerSecond;
+    private volatile int targetFill = MIN_FILL;
 
     public ShuffledDeckSupplier(Supplier<List<Card>> cardSupplier, CardShuffler cardShuffler) {
+        this(cardSupplier, cardShuffler, DEFAULT_CAPACITY);
+    }
+
+    @Autowired
+    public ShuffledDeckSupplier(Supplier<List<Card>> cardSupplier, CardShuffler cardShuffler,
+                                @Value("${poker.deck.pipeline.capacity:" + DEFAULT_CAPACITY + "}") int capacity) {
         this.cardSupplier = cardSupplier;
         this.cardShuffler = cardShuffler;
+        this.readyDecks = new DeckRingBuffer(capacity);
+        this.lastRefillNanos = System.nanoTime();
     }
 
     public Deck get() {
+        decksTaken.increment();
+        Deck deck = readyDecks.poll();
+        if (deck != null) {
+            return deck;
+        }
+        fallbacks.increment();
+        return shuffledDeck();
+    }
+
+    /**
+     * Runs on the scheduler thread, the buffer only allows one producer
+     */
+    @Scheduled(fixedDelayString = "${poker.deck.pipeline.refill-millis:50}")
+    public void refill() {
+        refill(System.nanoTime());
+    }
+
+    /**
+     * @return the amount of decks added
+     */
+    synchronized int refill(long nowNanos) {
+        double seconds = Math.max(nowNanos - lastRefillNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+        lastRefillNanos = nowNanos;
+        decksPerSecond += RATE_SMOOTHING * (decksTaken.sumThenReset() / seconds - decksPerSecond);
+        targetFill = (int) Math.min(readyDecks.getCapacity(),
+                Math.max(MIN_FILL, Math.ceil(decksPerSecond * LEAD_TIME_SECONDS)));
+
+        int missing = Math.max(0, targetFill - readyDecks.size());
+        for (int i = 0; i < missing; i++) {
+            Deck deck = shuffledDeck();
+            deck.randomizeRemaining();
+            readyDecks.offer(deck);
+        }
+        return missing;
+    }
+
+    public int getFillLevel() {
+        return readyDecks.size();
+    }
+
+    public int getCapacity() {
+        return readyDecks.getCapacity();
+    }
+
+    public int getTargetFill() {
+        return targetFill;
+    }
+
+    public double getDecksPerSecond() {
+        return decksPerSecond;
+    }
+
+    /**
+     * Decks shuffled inline because the buffer was drained
+     */
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    private Deck shuffledDeck() {
         Deck deck = new Deck(cardSupplier.get(), cardShuffler);
         deck.shuffle();
         return deck;
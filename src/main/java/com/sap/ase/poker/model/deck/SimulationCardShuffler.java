@@ -0,0 +1,22 @@
+package com.sap.ase.poker.model.deck;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fast shuffler for simulations and bots. Every thread has its own {@link SplittableRandom}, so threads
+ * never contend, but the sequence is predictable and must not be used for tables played for money.
+ */
+public class SimulationCardShuffler implements SeededCardShuffler {
+
+    private final ThreadLocal<SplittableRandom> random = ThreadLocal.withInitial(SplittableRandom::new);
+
+    @Override
+    public int nextIndex(int from, int to) {
+        return random.get().nextInt(from, to);
+    }
+
+    @Override
+    public long nextSeed() {
+        return random.get().nextLong();
+    }
+}
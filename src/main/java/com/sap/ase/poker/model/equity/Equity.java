@@ -0,0 +1,94 @@
+package com.sap.ase.poker.model.equity;
+
+/**
+ * Outcome of an equity calculation, players are identified by their index in the calculation input
+ */
+public class Equity {
+
+    private final long samples;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] shares;
+    private final boolean exact;
+
+    Equity(long samples, long[] wins, long[] ties, double[] shares, boolean exact) {
+        this.samples = samples;
+        this.wins = wins;
+        this.ties = ties;
+        this.shares = shares;
+        this.exact = exact;
+    }
+
+    Equity combine(Equity other) {
+        long[] combinedWins = new long[wins.length];
+        long[] combinedTies = new long[ties.length];
+        double[] combinedShares = new double[shares.length];
+        for (int i = 0; i < wins.length; i++) {
+            combinedWins[i] = wins[i] + other.wins[i];
+            combinedTies[i] = ties[i] + other.ties[i];
+            combinedShares[i] = shares[i] + other.shares[i];
+        }
+        return new Equity(samples + other.samples, combinedWins, combinedTies, combinedShares, exact && other.exact);
+    }
+
+    public int getAmountOfPlayers() {
+        return wins.length;
+    }
+
+    /**
+     * Amount of evaluated boards
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * True if every possible board was evaluated, false if the boards were sampled
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Amount of boards the player wins alone
+     */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Amount of boards the player splits the pot with others
+     */
+    public long getTies(int player) {
+        return ties[player];
+    }
+
+    /**
+     * Amount of boards the player loses
+     */
+    public long getLosses(int player) {
+        return samples - wins[player] - ties[player];
+    }
+
+    public double getWinPercentage(int player) {
+        return percentage(wins[player]);
+    }
+
+    public double getTiePercentage(int player) {
+        return percentage(ties[player]);
+    }
+
+    /**
+     * Expected share of the pot in percent, split pots count with the player's share
+     */
+    public double getEquityPercentage(int player) {
+        return percentage(shares[player]);
+    }
+
+    private double percentage(double amount) {
+        if (samples == 0) {
+            return 0;
+        }
+        return 100 * amount / samples;
+    }
+}
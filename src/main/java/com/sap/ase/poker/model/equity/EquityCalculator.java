@@ -0,0 +1,298 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Calculates the chances of every player for the missing community cards, either exactly by enumerating every
+ * possible board or estimated by dealing random boards.
+ * <p>
+ * The work is split into tasks on a {@link ForkJoinPool}. Sampling tasks draw from their own
+ * {@link SplittableRandom}, and all tasks evaluate card masks, so the workers share nothing but the result.
+ */
+@Component
+public class EquityCalculator {
+
+    public static final int DEFAULT_SAMPLES = 100_000;
+
+    static final int SAMPLES_PER_TASK = 4_096;
+    static final int BOARDS_PER_TASK = 2_048;
+
+    private static final int HAND_CARD_AMOUNT = 2;
+    private static final int COMMUNITY_CARD_AMOUNT = 5;
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final WinnerRules winnerRules;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public EquityCalculator(WinnerRules winnerRules) {
+        this(winnerRules, ForkJoinPool.commonPool());
+    }
+
+    public EquityCalculator(WinnerRules winnerRules, ForkJoinPool pool) {
+        this.winnerRules = winnerRules;
+        this.pool = pool;
+    }
+
+    public Equity calculate(List<List<Card>> handCards, List<Card> communityCards) {
+        long[] handCardsMasks = new long[handCards.size()];
+        for (int i = 0; i < handCardsMasks.length; i++) {
+            handCardsMasks[i] = CardCodec.maskOf(handCards.get(i));
+        }
+        return calculate(handCardsMasks, CardCodec.maskOf(communityCards), DEFAULT_SAMPLES, Duration.ZERO);
+    }
+
+    /**
+     * Enumerates all boards if there are at most as many as samples, otherwise samples. An enumeration cannot stop
+     * early, so with a time budget only boards that fit into one task are enumerated, more are sampled.
+     *
+     * @param handCardsMasks     the two hand cards of every player as {@link CardCodec} mask
+     * @param communityCardsMask the known community cards
+     * @param samples            amount of boards to deal at most
+     * @param timeBudget         stops dealing further random boards once exceeded, {@link Duration#ZERO} for no limit
+     */
+    public Equity calculate(long[] handCardsMasks, long communityCardsMask, int samples, Duration timeBudget) {
+        long deadCards = validateCards(handCardsMasks, communityCardsMask);
+        int missingCards = COMMUNITY_CARD_AMOUNT - Long.bitCount(communityCardsMask);
+        long boards = countCombinations(CardCodec.CARD_COUNT - Long.bitCount(deadCards), missingCards);
+        if (boards <= samples && (timeBudget.isZero() || boards <= BOARDS_PER_TASK)) {
+            return enumerate(handCardsMasks, communityCardsMask);
+        }
+        return sample(handCardsMasks, communityCardsMask, samples, timeBudget);
+    }
+
+    /**
+     * Evaluates every possible board once, so the result is exact
+     */
+    public Equity enumerate(long[] handCardsMasks, long communityCardsMask) {
+        long deadCards = validateCards(handCardsMasks, communityCardsMask);
+        int missingCards = COMMUNITY_CARD_AMOUNT - Long.bitCount(communityCardsMask);
+        if (missingCards == 0) {
+            Tally tally = new Tally(handCardsMasks.length);
+            tally.count(winnerRules.findWinners(communityCardsMask, handCardsMasks));
+            return tally.toEquity(true);
+        }
+        long[] remainingCards = new long[CardCodec.CARD_COUNT - Long.bitCount(deadCards)];
+        long remaining = CardCodec.FULL_DECK_MASK & ~deadCards;
+        for (int i = 0; i < remainingCards.length; i++, remaining &= remaining - 1) {
+            remainingCards[i] = Long.lowestOneBit(remaining);
+        }
+        int firstCards = remainingCards.length - missingCards + 1;
+        return pool.invoke(new EnumerationTask(handCardsMasks, communityCardsMask, remainingCards, missingCards,
+                0, firstCards));
+    }
+
+    /**
+     * Estimates the chances by dealing random boards
+     *
+     * @param handCardsMasks     the two hand cards of every player as {@link CardCodec} mask
+     * @param communityCardsMask the known community cards
+     * @param samples            amount of boards to deal
+     * @param timeBudget         stops dealing further boards once exceeded, {@link Duration#ZERO} for no limit
+     */
+    public Equity sample(long[] handCardsMasks, long communityCardsMask, int samples, Duration timeBudget) {
+        return sample(handCardsMasks, communityCardsMask, samples, timeBudget, new SplittableRandom());
+    }
+
+    Equity sample(long[] handCardsMasks, long communityCardsMask, int samples, Duration timeBudget,
+                  SplittableRandom random) {
+        long deadCards = validateCards(handCardsMasks, communityCardsMask);
+        long deadline = timeBudget.isZero() ? Long.MAX_VALUE : System.nanoTime() + timeBudget.toNanos();
+        SamplingTask task = new SamplingTask(handCardsMasks, communityCardsMask, deadCards, samples, deadline, random);
+        return pool.invoke(task);
+    }
+
+    private long validateCards(long[] handCardsMasks, long communityCardsMask) {
+        if (Long.bitCount(communityCardsMask) > COMMUNITY_CARD_AMOUNT) {
+            throw new InvalidAmountOfCardsException("At most 5 community cards possible");
+        }
+        long deadCards = communityCardsMask;
+        int amountOfDeadCards = Long.bitCount(communityCardsMask);
+        for (long handCardsMask : handCardsMasks) {
+            if (Long.bitCount(handCardsMask) != HAND_CARD_AMOUNT) {
+                throw new InvalidAmountOfCardsException("2 hand cards needed");
+            }
+            deadCards |= handCardsMask;
+            amountOfDeadCards += HAND_CARD_AMOUNT;
+        }
+        if (Long.bitCount(deadCards) != amountOfDeadCards) {
+            throw new IllegalArgumentException("Every card may only be dealt once");
+        }
+        return deadCards;
+    }
+
+    /**
+     * Amount of ways to choose k out of n cards
+     */
+    static long countCombinations(int n, int k) {
+        long combinations = 1;
+        for (int i = 0; i < k; i++) {
+            combinations = combinations * (n - i) / (i + 1);
+        }
+        return combinations;
+    }
+
+    private static class Tally {
+        private long boards;
+        private final long[] wins;
+        private final long[] ties;
+        private final double[] shares;
+
+        Tally(int amountOfPlayers) {
+            wins = new long[amountOfPlayers];
+            ties = new long[amountOfPlayers];
+            shares = new double[amountOfPlayers];
+        }
+
+        void count(long winners) {
+            boards++;
+            int amountOfWinners = Long.bitCount(winners);
+            double share = 1.0 / amountOfWinners;
+            for (long remaining = winners; remaining != 0; remaining &= remaining - 1) {
+                int player = Long.numberOfTrailingZeros(remaining);
+                if (amountOfWinners == 1) {
+                    wins[player]++;
+                } else {
+                    ties[player]++;
+                }
+                shares[player] += share;
+            }
+        }
+
+        Equity toEquity(boolean exact) {
+            return new Equity(boards, wins, ties, shares, exact);
+        }
+    }
+
+    /**
+     * Enumerates all boards whose lowest missing card is one of the remaining cards in [from, to).
+     * Every nesting level adds one card to the board mask, so the known cards are never combined again.
+     */
+    private class EnumerationTask extends RecursiveTask<Equity> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] handCardsMasks;
+        private final long communityCardsMask;
+        private final long[] remainingCards;
+        private final int missingCards;
+        private final int from;
+        private final int to;
+
+        EnumerationTask(long[] handCardsMasks, long communityCardsMask, long[] remainingCards, int missingCards,
+                        int from, int to) {
+            this.handCardsMasks = handCardsMasks;
+            this.communityCardsMask = communityCardsMask;
+            this.remainingCards = remainingCards;
+            this.missingCards = missingCards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Equity compute() {
+            if (to - from == 1 || countBoards() <= BOARDS_PER_TASK) {
+                Tally tally = new Tally(handCardsMasks.length);
+                for (int first = from; first < to; first++) {
+                    enumerateBoards(communityCardsMask | remainingCards[first], first + 1, missingCards - 1, tally);
+                }
+                return tally.toEquity(true);
+            }
+            int middle = (from + to) >>> 1;
+            EnumerationTask first = new EnumerationTask(handCardsMasks, communityCardsMask, remainingCards,
+                    missingCards, from, middle);
+            EnumerationTask second = new EnumerationTask(handCardsMasks, communityCardsMask, remainingCards,
+                    missingCards, middle, to);
+            first.fork();
+            Equity secondEquity = second.compute();
+            return first.join().combine(secondEquity);
+        }
+
+        private long countBoards() {
+            long boards = 0;
+            for (int first = from; first < to; first++) {
+                boards += countCombinations(remainingCards.length - first - 1, missingCards - 1);
+            }
+            return boards;
+        }
+
+        private void enumerateBoards(long board, int next, int missing, Tally tally) {
+            if (missing == 0) {
+                tally.count(winnerRules.findWinners(board, handCardsMasks));
+                return;
+            }
+            for (int i = next; i <= remainingCards.length - missing; i++) {
+                enumerateBoards(board | remainingCards[i], i + 1, missing - 1, tally);
+            }
+        }
+    }
+
+    private class SamplingTask extends RecursiveTask<Equity> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] handCardsMasks;
+        private final long communityCardsMask;
+        private final long deadCards;
+        private final int samples;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        SamplingTask(long[] handCardsMasks, long communityCardsMask, long deadCards, int samples, long deadline,
+                     SplittableRandom random) {
+            this.handCardsMasks = handCardsMasks;
+            this.communityCardsMask = communityCardsMask;
+            this.deadCards = deadCards;
+            this.samples = samples;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected Equity compute() {
+            if (samples <= SAMPLES_PER_TASK) {
+                return sampleBoards();
+            }
+            int half = samples / 2;
+            SamplingTask first = new SamplingTask(handCardsMasks, communityCardsMask, deadCards, half, deadline,
+                    random.split());
+            SamplingTask second = new SamplingTask(handCardsMasks, communityCardsMask, deadCards, samples - half,
+                    deadline, random);
+            first.fork();
+            Equity secondEquity = second.compute();
+            return first.join().combine(secondEquity);
+        }
+
+        private Equity sampleBoards() {
+            Tally tally = new Tally(handCardsMasks.length);
+            int missingCards = COMMUNITY_CARD_AMOUNT - Long.bitCount(communityCardsMask);
+
+            for (int sampled = 0; sampled < samples; sampled++) {
+                if (sampled % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                    break;
+                }
+                long board = communityCardsMask;
+                long usedCards = deadCards;
+                for (int i = 0; i < missingCards; i++) {
+                    long card;
+                    do {
+                        card = 1L << random.nextInt(CardCodec.CARD_COUNT);
+                    } while ((usedCards & card) != 0);
+                    usedCards |= card;
+                    board |= card;
+                }
+                tally.count(winnerRules.findWinners(board, handCardsMasks));
+            }
+            return tally.toEquity(false);
+        }
+    }
+}
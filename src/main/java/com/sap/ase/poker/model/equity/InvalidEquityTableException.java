@@ -0,0 +1,9 @@
+package com.sap.ase.poker.model.equity;
+
+public class InvalidEquityTableException extends RuntimeException {
+    private static final long serialVersionUID = 2290564173819082385L;
+
+    public InvalidEquityTableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed all-in equities of the 169 starting hands, written by {@link PreflopEquityTableGenerator}.
+ * <p>
+ * Suits only matter for whether two hand cards are suited, so every hand maps to a cell of a 13x13 grid: pairs on
+ * the diagonal, suited hands below and offsuit hands above it. The file is memory-mapped, a lookup is the
+ * index calculation plus a single read.
+ * <p>
+ * File layout, big endian: magic, version, amount of hands and maximum amount of opponents as ints, followed by
+ * the equities against random opponents ({@code [hand][opponents - 1]}) and the heads-up matrix
+ * ({@code [hand][otherHand]}). Every equity is an unsigned short fraction of {@link #MAX_EQUITY}.
+ */
+@Component
+public class PreflopEquityTable {
+
+    public static final String RESOURCE_NAME = "preflop-equity.bin";
+    public static final int HAND_COUNT = CardCodec.RANK_COUNT * CardCodec.RANK_COUNT;
+    public static final int MAX_OPPONENTS = 9;
+
+    static final int MAGIC = 0x50464551;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final int FILE_SIZE = HEADER_SIZE + (HAND_COUNT * MAX_OPPONENTS + HAND_COUNT * HAND_COUNT) * Character.BYTES;
+    static final int MAX_EQUITY = Character.MAX_VALUE;
+
+    private static final int HEADS_UP_OFFSET = HEADER_SIZE + HAND_COUNT * MAX_OPPONENTS * Character.BYTES;
+
+    private final MappedByteBuffer buffer;
+
+    @Autowired
+    public PreflopEquityTable() {
+        this(PreflopEquityTable.class.getResource("/" + RESOURCE_NAME));
+    }
+
+    PreflopEquityTable(URL resource) {
+        if (resource == null) {
+            throw new InvalidEquityTableException(RESOURCE_NAME + " not found");
+        }
+        try (FileChannel channel = FileChannel.open(toPath(resource), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        validateHeader();
+    }
+
+    /**
+     * Index of the starting hand in the 13x13 grid, row and column are the {@link com.sap.ase.poker.model.deck.Kind}
+     * ordinals
+     */
+    public static int indexOf(Card first, Card second) {
+        int firstKind = first.getKind().ordinal();
+        int secondKind = second.getKind().ordinal();
+        int high = Math.max(firstKind, secondKind);
+        int low = Math.min(firstKind, secondKind);
+        if (first.getSuit() == second.getSuit()) {
+            return high * CardCodec.RANK_COUNT + low;
+        }
+        return low * CardCodec.RANK_COUNT + high;
+    }
+
+    /**
+     * Equity in percent of the hand against the given amount of opponents holding random cards
+     */
+    public double getEquityPercentage(Card first, Card second, int opponents) {
+        if (opponents < 1 || opponents > MAX_OPPONENTS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_OPPONENTS + " opponents supported");
+        }
+        int offset = HEADER_SIZE + (indexOf(first, second) * MAX_OPPONENTS + opponents - 1) * Character.BYTES;
+        return toPercentage(buffer.getChar(offset));
+    }
+
+    /**
+     * Equity in percent of the first hand against the second, averaged over all suits of both starting hands
+     */
+    public double getHeadsUpEquityPercentage(Card first, Card second, Card otherFirst, Card otherSecond) {
+        int offset = HEADS_UP_OFFSET
+                + (indexOf(first, second) * HAND_COUNT + indexOf(otherFirst, otherSecond)) * Character.BYTES;
+        return toPercentage(buffer.getChar(offset));
+    }
+
+    private static double toPercentage(char equity) {
+        return equity * 100.0 / MAX_EQUITY;
+    }
+
+    private void validateHeader() {
+        if (buffer.capacity() != FILE_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != HAND_COUNT || buffer.getInt(12) != MAX_OPPONENTS) {
+            throw new InvalidEquityTableException(RESOURCE_NAME + " does not match version " + VERSION);
+        }
+    }
+
+    /**
+     * Resources within a jar cannot be mapped, they are copied to a temporary file first
+     */
+    private static Path toPath(URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return Paths.get(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        Path copy = Files.createTempFile("preflop-equity", ".bin");
+        copy.toFile().deleteOnExit();
+        try (InputStream in = resource.openStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,143 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.rules.HandRules;
+import com.sap.ase.poker.model.rules.WinnerRules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static com.sap.ase.poker.model.equity.PreflopEquityTable.HAND_COUNT;
+import static com.sap.ase.poker.model.equity.PreflopEquityTable.MAX_EQUITY;
+import static com.sap.ase.poker.model.equity.PreflopEquityTable.MAX_OPPONENTS;
+
+/**
+ * Writes the file read by {@link PreflopEquityTable} by dealing random boards for every starting hand.
+ * Every deal draws random suits for the starting hands, so an entry is the average over all their suit combinations.
+ * <p>
+ * The random generator of a hand is seeded with its index, so the same amount of samples always writes the
+ * same file.
+ * <pre>
+ * java -cp target/classes:... com.sap.ase.poker.model.equity.PreflopEquityTableGenerator \
+ *     src/main/resources/preflop-equity.bin 50000
+ * </pre>
+ */
+public class PreflopEquityTableGenerator {
+
+    public static final int DEFAULT_SAMPLES = 50_000;
+
+    private static final int COMMUNITY_CARD_AMOUNT = 5;
+    private static final long SEED = 0x5EED;
+
+    private final WinnerRules winnerRules = new WinnerRules(new HandRules());
+    private final int samples;
+
+    public PreflopEquityTableGenerator(int samples) {
+        this.samples = samples;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: PreflopEquityTableGenerator <target file> [samples per entry]");
+            return;
+        }
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAMPLES;
+        new PreflopEquityTableGenerator(samples).write(Paths.get(args[0]));
+    }
+
+    public void write(Path target) throws IOException {
+        char[] againstRandom = new char[HAND_COUNT * MAX_OPPONENTS];
+        char[] headsUp = new char[HAND_COUNT * HAND_COUNT];
+
+        IntStream.range(0, HAND_COUNT).parallel().forEach(hand -> {
+            SplittableRandom random = new SplittableRandom(SEED + hand);
+            for (int opponents = 1; opponents <= MAX_OPPONENTS; opponents++) {
+                againstRandom[hand * MAX_OPPONENTS + opponents - 1] =
+                        toEquity(sampleAgainstRandom(hand, opponents, random));
+            }
+            headsUp[hand * HAND_COUNT + hand] = toEquity(0.5);
+            //the other half of the matrix follows from the shares summing up to one
+            for (int other = hand + 1; other < HAND_COUNT; other++) {
+                double share = sampleHeadsUp(hand, other, random);
+                headsUp[hand * HAND_COUNT + other] = toEquity(share);
+                headsUp[other * HAND_COUNT + hand] = toEquity(1 - share);
+            }
+        });
+
+        ByteBuffer buffer = ByteBuffer.allocate(PreflopEquityTable.FILE_SIZE);
+        buffer.putInt(PreflopEquityTable.MAGIC)
+                .putInt(PreflopEquityTable.VERSION)
+                .putInt(HAND_COUNT)
+                .putInt(MAX_OPPONENTS);
+        buffer.asCharBuffer().put(againstRandom).put(headsUp);
+        Files.write(target, buffer.array());
+    }
+
+    private double sampleAgainstRandom(int hand, int opponents, SplittableRandom random) {
+        long[] handCardsMasks = new long[opponents + 1];
+        double share = 0;
+        for (int sampled = 0; sampled < samples; sampled++) {
+            handCardsMasks[0] = dealHand(hand, random);
+            long usedCards = handCardsMasks[0];
+            for (int i = 1; i <= opponents; i++) {
+                handCardsMasks[i] = dealCards(usedCards, 2, random);
+                usedCards |= handCardsMasks[i];
+            }
+            share += shareOfFirst(dealCards(usedCards, COMMUNITY_CARD_AMOUNT, random), handCardsMasks);
+        }
+        return share / samples;
+    }
+
+    private double sampleHeadsUp(int hand, int other, SplittableRandom random) {
+        long[] handCardsMasks = new long[2];
+        double share = 0;
+        for (int sampled = 0; sampled < samples; sampled++) {
+            handCardsMasks[0] = dealHand(hand, random);
+            do {
+                handCardsMasks[1] = dealHand(other, random);
+            } while ((handCardsMasks[0] & handCardsMasks[1]) != 0);
+            share += shareOfFirst(dealCards(handCardsMasks[0] | handCardsMasks[1], COMMUNITY_CARD_AMOUNT, random),
+                    handCardsMasks);
+        }
+        return share / samples;
+    }
+
+    private double shareOfFirst(long communityCardsMask, long[] handCardsMasks) {
+        long winners = winnerRules.findWinners(communityCardsMask, handCardsMasks);
+        return (winners & 1) == 0 ? 0 : 1.0 / Long.bitCount(winners);
+    }
+
+    /**
+     * Random cards of the starting hand with the given {@link PreflopEquityTable#indexOf} index
+     */
+    static long dealHand(int hand, SplittableRandom random) {
+        int row = hand / CardCodec.RANK_COUNT;
+        int column = hand % CardCodec.RANK_COUNT;
+        int firstSuit = random.nextInt(CardCodec.SUIT_COUNT);
+        int secondSuit = row > column
+                ? firstSuit
+                : (firstSuit + 1 + random.nextInt(CardCodec.SUIT_COUNT - 1)) % CardCodec.SUIT_COUNT;
+        return 1L << (firstSuit * CardCodec.RANK_COUNT + row) | 1L << (secondSuit * CardCodec.RANK_COUNT + column);
+    }
+
+    private static long dealCards(long usedCards, int amount, SplittableRandom random) {
+        long cards = 0;
+        for (int i = 0; i < amount; i++) {
+            long card;
+            do {
+                card = 1L << random.nextInt(CardCodec.CARD_COUNT);
+            } while (((usedCards | cards) & card) != 0);
+            cards |= card;
+        }
+        return cards;
+    }
+
+    private static char toEquity(double share) {
+        return (char) Math.round(share * MAX_EQUITY);
+    }
+}
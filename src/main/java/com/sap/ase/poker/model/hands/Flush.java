@@ -11,7 +11,7 @@ import java.util.stream.Collectors;
 public class Flush extends Hand {
 
 
-    private static final int FLUSH_RANK = 6;
+    public static final int FLUSH_RANK = 6;
 
     public Flush(List<Card> cards) {
         super(cards);
@@ -39,8 +39,4 @@ public class Flush extends Hand {
         throw new InvalidHandException("No Flush Found");
     }
 
-    @Override
-    protected int compareRelevantCards(Hand hand) {
-        return new HighCard(cards).compareRelevantCards(new HighCard(hand.getRelevantCards()));
-    }
 }
@@ -27,12 +27,6 @@ public class FourOfAKind extends Hand {
         return findFourOfAKind(cards);
     }
 
-    @Override
-    protected int compareRelevantCards(Hand hand) {
-        int rank = this.getRelevantCards().get(0).getKind().getRank();
-        int otherRank = hand.getRelevantCards().get(0).getKind().getRank();
-        return rank - otherRank;
-    }
 
     private List<Card> findFourOfAKind(List<Card> cards) {
         Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
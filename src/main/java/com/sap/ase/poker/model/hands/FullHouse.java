@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
 
 public class FullHouse extends Hand {
 
-    private static final int FULL_HOUSE_RANK = 7;
+    public static final int FULL_HOUSE_RANK = 7;
 
     public FullHouse(List<Card> cards) {
         super(cards);
@@ -28,13 +28,6 @@ public class FullHouse extends Hand {
         return findFullHouse(cards);
     }
 
-    @Override
-    protected int compareRelevantCards(Hand hand) {
-        ThreeOfAKind threeOfAKind = new ThreeOfAKind(cards);
-        ThreeOfAKind otherThreeOfAKind = new ThreeOfAKind(hand.getRelevantCards());
-
-        return threeOfAKind.compareTo(otherThreeOfAKind);
-    }
 
     private List<Card> findFullHouse(List<Card> cards) {
         Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
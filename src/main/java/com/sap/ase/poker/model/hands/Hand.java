@@ -1,18 +1,24 @@
 package com.sap.ase.poker.model.hands;
 
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Kind;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public abstract class Hand implements Comparable<Hand> {
     public static final int MAX_HAND_CARD_AMOUNT = 5;
+    public static final int CATEGORY_SHIFT = 20;
+    public static final int RANK_BITS = 4;
 
     protected List<Card> cards = new ArrayList<>();
     protected List<Card> relevantCards = new ArrayList<>();
     protected List<Card> kickerCards = new ArrayList<>();
+    private final int score;
 
     public Hand(List<Card> cards) {
         List<Card> relevantCards = findRelevantCards(cards);
@@ -22,6 +28,7 @@ public abstract class Hand implements Comparable<Hand> {
         this.cards.addAll(kickerCards);
         this.relevantCards.addAll(relevantCards);
         this.kickerCards.addAll(kickerCards);
+        this.score = getRank() << CATEGORY_SHIFT | packRanks();
     }
 
     public abstract int getRank();
@@ -49,21 +56,17 @@ public abstract class Hand implements Comparable<Hand> {
         this.cards = cards;
     }
 
+    /**
+     * The rank of the hand followed by up to five 4 bit {@link Kind} ranks in order of significance,
+     * so comparing two hands is a single int comparison
+     */
+    public int getScore() {
+        return score;
+    }
+
     @Override
     public int compareTo(Hand hand) {
-        int rankComparisonResult = this.getRank() - hand.getRank();
-
-        if (rankComparisonResult != 0) {
-            return rankComparisonResult;
-        } else {
-            int relevantCardsComparisonResult = compareRelevantCards(hand);
-
-            if (relevantCardsComparisonResult != 0) {
-                return relevantCardsComparisonResult;
-            } else {
-                return compareKickerCards(hand);
-            }
-        }
+        return Integer.compare(score, hand.score);
     }
 
     protected List<Card> sortCardsDescending(List<Card> cards) {
@@ -77,29 +80,32 @@ public abstract class Hand implements Comparable<Hand> {
         return cards.stream().sorted(Card::compareTo).collect(Collectors.toList());
     }
 
-    protected abstract int compareRelevantCards(Hand hand);
-
-    private int compareKickerCards(Hand hand) {
-
-        List<Card> kickerCardsOfHand1 = this.getKickerCards();
-        List<Card> kickerCardsOfHand2 = hand.getKickerCards();
-
-        if (kickerCardsOfHand1.isEmpty() && kickerCardsOfHand2.isEmpty()) {
-            return 0;
+    /**
+     * Packs the kinds of the relevant cards, larger groups first, followed by the kinds of the kicker cards
+     */
+    protected int packRanks() {
+        Map<Kind, Long> kindGroups = relevantCards.stream()
+                .collect(Collectors.groupingBy(Card::getKind, Collectors.counting()));
+        List<Kind> relevantKinds = kindGroups.keySet().stream()
+                .sorted(Comparator.comparing((Kind kind) -> kindGroups.get(kind)).thenComparing(Kind::getRank)
+                        .reversed())
+                .collect(Collectors.toList());
+
+        int packed = 0;
+        for (Kind kind : relevantKinds) {
+            packed = packed << RANK_BITS | kind.getRank();
         }
+        for (Card kickerCard : sortCardsDescending(kickerCards)) {
+            packed = packed << RANK_BITS | kickerCard.getKind().getRank();
+        }
+        return packRanks(packed, relevantKinds.size() + kickerCards.size());
+    }
 
-        kickerCardsOfHand1.sort(Card::compareTo);
-        kickerCardsOfHand2.sort(Card::compareTo);
-
-        int kickerCardsComparison;
-
-        int i = 0;
-        do {
-            kickerCardsComparison = kickerCardsOfHand1.get(i).compareTo(kickerCardsOfHand2.get(i));
-            i++;
-        } while (kickerCardsComparison == 0 && i < kickerCardsOfHand1.size());
-
-        return kickerCardsComparison;
+    /**
+     * Aligns the given amount of packed ranks so the first one is the most significant
+     */
+    protected static int packRanks(int packed, int amountOfRanks) {
+        return packed << (RANK_BITS * (MAX_HAND_CARD_AMOUNT - amountOfRanks));
     }
 
     public List<Card> getKickerCards() {
@@ -9,7 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 
 public class RoyalFlush extends Hand {
-    private static final int ROYAL_FLUSH_RANK = 10;
+    public static final int ROYAL_FLUSH_RANK = 10;
 
     public RoyalFlush(List<Card> cards) {
         super(cards);
@@ -48,7 +48,7 @@ public class RoyalFlush extends Hand {
     }
 
     @Override
-    protected int compareRelevantCards(Hand hand) {
-        return 0;
+    protected int packRanks() {
+        return Straight.packHighestRank(relevantCards);
     }
 }
@@ -2,12 +2,17 @@ package com.sap.ase.poker.model.hands;
 
 import com.sap.ase.poker.model.InvalidHandException;
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Kind;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class Straight extends Hand {
-    private final static int STRAIGHT_RANK = 5;
+    public static final int STRAIGHT_RANK = 5;
+    private static final List<Kind> WHEEL_KINDS = Arrays.asList(Kind.ACE, Kind.TWO, Kind.THREE, Kind.FOUR, Kind.FIVE);
 
     public Straight(List<Card> cards) {
         super(cards);
@@ -40,9 +45,41 @@ public class Straight extends Hand {
                 }
             }
         }
+        List<Card> wheel = findWheel(cards);
+        if (wheel.size() == MAX_HAND_CARD_AMOUNT) {
+            return wheel;
+        }
         throw new InvalidHandException("No straight present");
     }
 
+    /**
+     * The ace also counts low, so A-2-3-4-5 is the lowest possible straight
+     */
+    private List<Card> findWheel(List<Card> cards) {
+        List<Card> wheel = new ArrayList<>();
+        for (Kind kind : WHEEL_KINDS) {
+            Optional<Card> cardOfKind = cards.stream().filter(card -> card.getKind() == kind).findFirst();
+            cardOfKind.ifPresent(wheel::add);
+        }
+        return wheel;
+    }
+
+    @Override
+    protected int packRanks() {
+        return packHighestRank(relevantCards);
+    }
+
+    /**
+     * Only the highest card of a straight counts, which is the five for a wheel
+     */
+    static int packHighestRank(List<Card> straight) {
+        boolean isWheel = straight.stream().anyMatch(card -> card.getKind() == Kind.ACE)
+                && straight.stream().anyMatch(card -> card.getKind() == Kind.TWO);
+        int highestRank = isWheel ? Kind.FIVE.getRank()
+                : straight.stream().mapToInt(card -> card.getKind().getRank()).max().orElse(0);
+        return packRanks(highestRank, 1);
+    }
+
     private boolean isFiveCardStraight(List<Card> cards) {
         return cards.size() == 5 && isStraight(cards);
     }
@@ -68,8 +105,4 @@ public class Straight extends Hand {
         return true;
     }
 
-    @Override
-    protected int compareRelevantCards(Hand hand) {
-        return new HighCard(cards).compareRelevantCards(new HighCard(hand.getRelevantCards()));
-    }
 }
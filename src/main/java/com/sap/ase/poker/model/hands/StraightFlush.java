@@ -9,7 +9,7 @@ import java.util.stream.Collectors;
 
 public class StraightFlush extends Hand {
 
-    private static final int STRAIGHT_FLUSH_RANK = 9;
+    public static final int STRAIGHT_FLUSH_RANK = 9;
 
     public StraightFlush(List<Card> cards) {
         super(cards);
@@ -37,8 +37,7 @@ public class StraightFlush extends Hand {
     }
 
     @Override
-    protected int compareRelevantCards(Hand hand) {
-        Card highestCard = hand.getRelevantCards().get(0);
-        return this.getRelevantCards().get(0).compareTo(highestCard);
+    protected int packRanks() {
+        return Straight.packHighestRank(relevantCards);
     }
 }
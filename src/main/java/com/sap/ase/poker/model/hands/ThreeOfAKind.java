@@ -27,13 +27,6 @@ public class ThreeOfAKind extends Hand {
         return findThreeOfAKind(cards);
     }
 
-    @Override
-    protected int compareRelevantCards(Hand hand) {
-        int rank = this.getRelevantCards().get(0).getKind().getRank();
-        int otherRank = hand.getRelevantCards().get(0).getKind().getRank();
-
-        return rank - otherRank;
-    }
 
     private List<Card> findThreeOfAKind(List<Card> cards) {
         Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
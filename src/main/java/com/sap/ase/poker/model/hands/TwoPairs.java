@@ -5,6 +5,7 @@ import com.sap.ase.poker.model.deck.Card;
 import com.sap.ase.poker.model.deck.Kind;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,39 +28,19 @@ public class TwoPairs extends Hand {
         return findTwoPairs(cards);
     }
 
-    @Override
-    protected int compareRelevantCards(Hand hand) {
-        Integer highestPairRank = this.getRelevantCards().stream().map(card -> card.getKind().getRank())
-                .max(Integer::compareTo).get();
-        Integer otherHighestPairRank =
-                hand.getRelevantCards().stream().map(card -> card.getKind().getRank())
-                        .max(Integer::compareTo).get();
-
-        int highestPairComparison = highestPairRank - otherHighestPairRank;
-        if (highestPairComparison != 0) {
-            return highestPairComparison;
-        } else {
-            Integer lowestPairRank =
-                    this.getRelevantCards().stream().map(card -> card.getKind().getRank())
-                            .min(Integer::compareTo).get();
-            Integer otherLowestPairRank =
-                    hand.getRelevantCards().stream().map(card -> card.getKind().getRank())
-                            .min(Integer::compareTo).get();
-
-            return lowestPairRank - otherLowestPairRank;
-        }
-    }
 
     private List<Card> findTwoPairs(List<Card> cards) {
         Map<Kind, List<Card>> kindGroups = cards.stream().collect(Collectors.groupingBy(Card::getKind));
-        List<Card> twoPairs =
-                kindGroups.values().stream().filter(group -> group.size() == 2).flatMap(Collection::stream)
+        List<List<Card>> pairs =
+                kindGroups.values().stream().filter(group -> group.size() == 2)
+                        .sorted(Comparator.comparing((List<Card> group) -> group.get(0)).reversed())
                         .collect(Collectors.toList());
 
-        if (twoPairs.size() != 4) {
+        if (pairs.size() < 2) {
             throw new InvalidHandException("Two PairsNotFound");
         }
 
-        return twoPairs;
+        //with three pairs only the two highest ones count, the third pair may still provide the kicker
+        return pairs.subList(0, 2).stream().flatMap(Collection::stream).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,186 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.hands.Flush;
+import com.sap.ase.poker.model.hands.FourOfAKind;
+import com.sap.ase.poker.model.hands.FullHouse;
+import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.hands.HighCard;
+import com.sap.ase.poker.model.hands.Pair;
+import com.sap.ase.poker.model.hands.RoyalFlush;
+import com.sap.ase.poker.model.hands.Straight;
+import com.sap.ase.poker.model.hands.StraightFlush;
+import com.sap.ase.poker.model.hands.ThreeOfAKind;
+import com.sap.ase.poker.model.hands.TwoPairs;
+
+import java.util.List;
+
+/**
+ * Evaluates up to seven cards into a single int strength without creating any objects.
+ * <p>
+ * The cards are folded into one 13 bit rank mask per suit, see {@link CardCodec}. Pairs, trips and quads fall out of
+ * bitwise intersections of those masks, straights and the ordered top cards are read from
+ * lookup tables indexed by a rank mask.
+ * <p>
+ * A strength is {@code category << 20} followed by up to five 4 bit {@link com.sap.ase.poker.model.deck.Kind}
+ * ranks in order of significance, so a stronger hand always has a greater strength. The category is the
+ * rank of the matching {@link Hand} subclass, and the strength equals the {@link Hand#getScore()} of that hand.
+ */
+public class HandEvaluator {
+
+    private static final int CATEGORY_SHIFT = Hand.CATEGORY_SHIFT;
+    private static final int RANK_BITS = Hand.RANK_BITS;
+    private static final int ACE_RANK = 13;
+    private static final int FIVE_RANK = 4;
+    private static final int STRAIGHT_BITS = 0b11111;
+    private static final int WHEEL_BITS = 0b1_0000_0000_1111;
+
+    private static final int[] TOP_FIVE_RANKS = new int[1 << CardCodec.RANK_COUNT];
+    private static final byte[] STRAIGHT_HIGH_RANK = new byte[1 << CardCodec.RANK_COUNT];
+
+    static {
+        for (int ranks = 0; ranks < TOP_FIVE_RANKS.length; ranks++) {
+            TOP_FIVE_RANKS[ranks] = packTopFiveRanks(ranks);
+            STRAIGHT_HIGH_RANK[ranks] = (byte) findStraightHighRank(ranks);
+        }
+    }
+
+    public static int category(int strength) {
+        return strength >>> CATEGORY_SHIFT;
+    }
+
+    public int evaluate(List<Card> cards) {
+        return evaluate(CardCodec.maskOf(cards));
+    }
+
+    /**
+     * @param cardMask the cards as {@link CardCodec} mask
+     */
+    public int evaluate(long cardMask) {
+        return evaluateSuits(CardCodec.kindsOfSuit(cardMask, 0), CardCodec.kindsOfSuit(cardMask, 1),
+                CardCodec.kindsOfSuit(cardMask, 2), CardCodec.kindsOfSuit(cardMask, 3));
+    }
+
+    private int evaluateSuits(int first, int second, int third, int fourth) {
+        int ranks = first | second | third | fourth;
+        int flushRanks = findFlushRanks(first, second, third, fourth);
+
+        if (flushRanks != 0) {
+            int straightFlushHighRank = STRAIGHT_HIGH_RANK[flushRanks];
+            if (straightFlushHighRank == ACE_RANK) {
+                return strength(RoyalFlush.ROYAL_FLUSH_RANK, ACE_RANK << 16);
+            }
+            if (straightFlushHighRank != 0) {
+                return strength(StraightFlush.STRAIGHT_FLUSH_RANK, straightFlushHighRank << 16);
+            }
+        }
+
+        int fourOfAKind = first & second & third & fourth;
+        if (fourOfAKind != 0) {
+            int quadsRank = highestRank(fourOfAKind);
+            return strength(FourOfAKind.FOUR_OF_A_KIND_RANK,
+                    quadsRank << 16 | highestRank(ranks & ~rankBit(quadsRank)) << 12);
+        }
+
+        int threeOrMore = (first & second & third) | (first & second & fourth) | (first & third & fourth)
+                | (second & third & fourth);
+        int twoOrMore = (first & second) | (first & third) | (first & fourth) | (second & third)
+                | (second & fourth) | (third & fourth);
+
+        if (threeOrMore != 0) {
+            int tripsRank = highestRank(threeOrMore);
+            int pairs = twoOrMore & ~rankBit(tripsRank);
+            if (pairs != 0) {
+                return strength(FullHouse.FULL_HOUSE_RANK, tripsRank << 16 | highestRank(pairs) << 12);
+            }
+        }
+
+        if (flushRanks != 0) {
+            return strength(Flush.FLUSH_RANK, TOP_FIVE_RANKS[flushRanks]);
+        }
+
+        int straightHighRank = STRAIGHT_HIGH_RANK[ranks];
+        if (straightHighRank != 0) {
+            return strength(Straight.STRAIGHT_RANK, straightHighRank << 16);
+        }
+
+        if (threeOrMore != 0) {
+            int tripsRank = highestRank(threeOrMore);
+            return strength(ThreeOfAKind.THREE_OF_A_KIND_RANK,
+                    tripsRank << 16 | topRanks(ranks & ~rankBit(tripsRank), 2) << 8);
+        }
+
+        if (twoOrMore != 0) {
+            int highPairRank = highestRank(twoOrMore);
+            int otherPairs = twoOrMore & ~rankBit(highPairRank);
+            if (otherPairs != 0) {
+                int lowPairRank = highestRank(otherPairs);
+                int kickers = ranks & ~rankBit(highPairRank) & ~rankBit(lowPairRank);
+                return strength(TwoPairs.TWO_PAIRS_RANK,
+                        highPairRank << 16 | lowPairRank << 12 | highestRank(kickers) << 8);
+            }
+            return strength(Pair.PAIR_RANK, highPairRank << 16 | topRanks(ranks & ~rankBit(highPairRank), 3) << 4);
+        }
+
+        return strength(HighCard.HIGH_CARD_RANK, TOP_FIVE_RANKS[ranks]);
+    }
+
+    private static int findFlushRanks(int first, int second, int third, int fourth) {
+        if (Integer.bitCount(first) >= Hand.MAX_HAND_CARD_AMOUNT) {
+            return first;
+        }
+        if (Integer.bitCount(second) >= Hand.MAX_HAND_CARD_AMOUNT) {
+            return second;
+        }
+        if (Integer.bitCount(third) >= Hand.MAX_HAND_CARD_AMOUNT) {
+            return third;
+        }
+        if (Integer.bitCount(fourth) >= Hand.MAX_HAND_CARD_AMOUNT) {
+            return fourth;
+        }
+        return 0;
+    }
+
+    private static int strength(int category, int ranks) {
+        return category << CATEGORY_SHIFT | ranks;
+    }
+
+    private static int highestRank(int ranks) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(ranks);
+    }
+
+    private static int rankBit(int rank) {
+        return 1 << (rank - 1);
+    }
+
+    private static int topRanks(int ranks, int amount) {
+        return TOP_FIVE_RANKS[ranks] >>> (RANK_BITS * (Hand.MAX_HAND_CARD_AMOUNT - amount));
+    }
+
+    private static int packTopFiveRanks(int ranks) {
+        int packed = 0;
+        int remaining = ranks;
+        for (int i = 0; i < Hand.MAX_HAND_CARD_AMOUNT; i++) {
+            int rank = highestRank(remaining);
+            packed = packed << RANK_BITS | rank;
+            if (rank != 0) {
+                remaining &= ~rankBit(rank);
+            }
+        }
+        return packed;
+    }
+
+    private static int findStraightHighRank(int ranks) {
+        for (int lowestBit = CardCodec.RANK_COUNT - Hand.MAX_HAND_CARD_AMOUNT; lowestBit >= 0; lowestBit--) {
+            int straight = STRAIGHT_BITS << lowestBit;
+            if ((ranks & straight) == straight) {
+                return lowestBit + Hand.MAX_HAND_CARD_AMOUNT;
+            }
+        }
+        if ((ranks & WHEEL_BITS) == WHEEL_BITS) {
+            return FIVE_RANK;
+        }
+        return 0;
+    }
+}
@@ -1,45 +1,85 @@
 package com.sap.ase.poker.model.rules;
 
-import com.sap.ase.poker.model.InvalidHandException;
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
 import com.sap.ase.poker.model.hands.*;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.function.Function;
 
 @Component
 public class HandRules {
 
-    public static final List<Function<List<Card>, Hand>> CREATION_FUNCTIONS =
-            Arrays.asList(
-                    RoyalFlush::new,
-                    StraightFlush::new,
-                    FourOfAKind::new,
-                    FullHouse::new,
-                    Flush::new,
-                    Straight::new,
-                    ThreeOfAKind::new,
-                    TwoPairs::new,
-                    Pair::new);
+    private static final int HAND_CARD_AMOUNT = 7;
+
+    private final HandEvaluator handEvaluator = new HandEvaluator();
+
+    /**
+     * Strength of the best hand within the given cards, see {@link HandEvaluator}.
+     * Comparing strengths is all a showdown needs, no {@link Hand} is created.
+     */
+    public int evaluate(List<Card> handCards) {
+        requireSevenCards(handCards.size());
+        return handEvaluator.evaluate(handCards);
+    }
+
+    /**
+     * Same as {@link #evaluate(List)} for hand and community cards without combining them into a new list
+     */
+    public int evaluate(List<Card> handCards, List<Card> communityCards) {
+        requireSevenCards(handCards.size() + communityCards.size());
+        return handEvaluator.evaluate(CardCodec.maskOf(handCards) | CardCodec.maskOf(communityCards));
+    }
+
+    /**
+     * @param cardMask seven cards as {@link CardCodec} mask
+     */
+    public int evaluate(long cardMask) {
+        requireSevenCards(Long.bitCount(cardMask));
+        return handEvaluator.evaluate(cardMask);
+    }
 
     public Hand findBestHand(List<Card> handCards) {
-        if (handCards.size() != 7) {
-            throw new InvalidAmountOfCardsException("7 cards needed");
-        }
+        requireSevenCards(handCards.size());
+
+        return createHand(handCards, handEvaluator.evaluate(handCards));
+    }
 
-        return findHandCombinations(handCards);
+    public Hand findBestHand(long cardMask) {
+        return findBestHand(CardCodec.cardsOf(cardMask));
     }
 
-    private Hand findHandCombinations(List<Card> cards) {
+    private void requireSevenCards(int amountOfCards) {
+        if (amountOfCards != HAND_CARD_AMOUNT) {
+            throw new InvalidAmountOfCardsException("7 cards needed");
+        }
+    }
 
-        for (Function<List<Card>, Hand> createHand : CREATION_FUNCTIONS) {
-            try {
-                return createHand.apply(cards);
-            } catch (InvalidHandException ignored) {
-            }
+    /**
+     * The {@link Hand} of the category of the given strength, the cards must contain such a hand
+     */
+    static Hand createHand(List<Card> cards, int strength) {
+        switch (HandEvaluator.category(strength)) {
+            case RoyalFlush.ROYAL_FLUSH_RANK:
+                return new RoyalFlush(cards);
+            case StraightFlush.STRAIGHT_FLUSH_RANK:
+                return new StraightFlush(cards);
+            case FourOfAKind.FOUR_OF_A_KIND_RANK:
+                return new FourOfAKind(cards);
+            case FullHouse.FULL_HOUSE_RANK:
+                return new FullHouse(cards);
+            case Flush.FLUSH_RANK:
+                return new Flush(cards);
+            case Straight.STRAIGHT_RANK:
+                return new Straight(cards);
+            case ThreeOfAKind.THREE_OF_A_KIND_RANK:
+                return new ThreeOfAKind(cards);
+            case TwoPairs.TWO_PAIRS_RANK:
+                return new TwoPairs(cards);
+            case Pair.PAIR_RANK:
+                return new Pair(cards);
+            default:
+                return new HighCard(cards);
         }
-        return new HighCard(cards);
     }
 }
@@ -0,0 +1,66 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.hands.Hand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Best hand of one player while the community cards are dealt. Every added card is folded into a card mask and
+ * the strength is updated right away, so reading it on any street, including the showdown, is a field access.
+ */
+public class HandState {
+
+    private static final HandEvaluator HAND_EVALUATOR = new HandEvaluator();
+
+    private final List<Card> cards = new ArrayList<>();
+    private long cardMask;
+    private int strength;
+    private Hand bestHand;
+
+    public HandState(List<Card> handCards) {
+        for (Card handCard : handCards) {
+            add(handCard);
+        }
+        strength = HAND_EVALUATOR.evaluate(cardMask);
+    }
+
+    public void addCommunityCard(Card card) {
+        add(card);
+        strength = HAND_EVALUATOR.evaluate(cardMask);
+        bestHand = null;
+    }
+
+    /**
+     * Strength of the best hand within the cards dealt so far, see {@link HandEvaluator}
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getCategory() {
+        return HandEvaluator.category(strength);
+    }
+
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * The hand behind the strength, built on first access after a card was added. Empty before the flop.
+     */
+    public Optional<Hand> getBestHand() {
+        if (bestHand == null && cards.size() >= Hand.MAX_HAND_CARD_AMOUNT) {
+            bestHand = HandRules.createHand(new ArrayList<>(cards), strength);
+        }
+        return Optional.ofNullable(bestHand);
+    }
+
+    private void add(Card card) {
+        cards.add(card);
+        cardMask |= CardCodec.maskOf(card);
+    }
+}
@@ -2,13 +2,10 @@ package com.sap.ase.poker.model.rules;
 
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
-import com.sap.ase.poker.model.hands.Hand;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 
 @Component
 public class WinnerRules {
@@ -21,22 +18,51 @@ public class WinnerRules {
 
 
     public Winners findWinners(List<Card> communityCards, List<Player> activePlayers) {
-        Map.Entry<Hand, List<Player>> bestHand = mapPlayersToBestHand(activePlayers, communityCards);
+        List<Player> winners = new ArrayList<>();
+        int bestStrength = Integer.MIN_VALUE;
 
-        return new Winners(bestHand.getValue(), bestHand.getKey());
+        for (Player player : activePlayers) {
+            int strength = handRules.evaluate(player.getHandCards(), communityCards);
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                winners.clear();
+            }
+            if (strength == bestStrength) {
+                winners.add(player);
+            }
+        }
+
+        if (winners.isEmpty()) {
+            return new Winners(winners, () -> null);
+        }
+        Player firstWinner = winners.get(0);
+        //the hand objects are only needed to display the winning hand, so they are built on first access
+        return new Winners(winners,
+                () -> handRules.findBestHand(combineCards(communityCards, firstWinner.getHandCards())));
     }
 
-    private Map.Entry<Hand, List<Player>> mapPlayersToBestHand(List<Player> players,
-                                                               List<Card> communityCards) {
-        TreeMap<Hand, List<Player>> playerHands = new TreeMap<>();
-        for (Player player : players) {
-            Hand bestHand = handRules.findBestHand(combineCards(communityCards, player.getHandCards()));
-            if (!playerHands.containsKey(bestHand)) {
-                playerHands.put(bestHand, new ArrayList<>());
+    /**
+     * Primitive variant of {@link #findWinners(List, List)} for simulations
+     *
+     * @param communityCardsMask the community cards as {@link com.sap.ase.poker.model.deck.CardCodec} mask
+     * @param handCardsMasks     the hand cards of every player as mask
+     * @return bit i is set if player i wins or ties
+     */
+    public long findWinners(long communityCardsMask, long[] handCardsMasks) {
+        long winners = 0;
+        int bestStrength = Integer.MIN_VALUE;
+
+        for (int i = 0; i < handCardsMasks.length; i++) {
+            int strength = handRules.evaluate(communityCardsMask | handCardsMasks[i]);
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                winners = 0;
+            }
+            if (strength == bestStrength) {
+                winners |= 1L << i;
             }
-            playerHands.get(bestHand).add(player);
         }
-        return playerHands.pollLastEntry();
+        return winners;
     }
 
     private List<Card> combineCards(List<Card> communityCards, List<Card> handCards) {
@@ -6,18 +6,24 @@ import com.sap.ase.poker.model.hands.Hand;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class Winners {
 
     List<Player> winners = new ArrayList<>();
     Hand winningHand;
+    private Supplier<Hand> winningHandSupplier;
 
-    public Winners(List<Player> winners, Hand winningHand) {
+    public Winners(List<Player> winners, Supplier<Hand> winningHandSupplier) {
         this.winners.addAll(winners);
-        this.winningHand = winningHand;
+        this.winningHandSupplier = winningHandSupplier;
     }
 
     public Optional<Hand> getWinningHand() {
+        if (winningHandSupplier != null) {
+            winningHand = winningHandSupplier.get();
+            winningHandSupplier = null;
+        }
         return Optional.ofNullable(winningHand);
     }
 
@@ -0,0 +1,107 @@
+package com.sap.ase.poker.rest;
+
+import com.sap.ase.poker.dto.GetEquityResponseDto;
+import com.sap.ase.poker.dto.PlayerEquityDto;
+import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.equity.Equity;
+import com.sap.ase.poker.model.equity.EquityCalculator;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping(TableController.PATH)
+public class EquityController {
+
+	public static final int MAX_SAMPLES = 1_000_000;
+	/**
+	 * Role of the users allowed to see the chances while the players can still bet, e.g. a commentator
+	 */
+	public static final String PRIVILEGED_ROLE = "ADMIN";
+
+	private final TableRegistry tableRegistry;
+
+	private final EquityCalculator equityCalculator;
+
+	private final Semaphore calculations;
+
+	public EquityController(TableRegistry tableRegistry, EquityCalculator equityCalculator,
+			@Value("${poker.equity.max-concurrent:2}") int maxConcurrent) {
+		this.tableRegistry = tableRegistry;
+		this.equityCalculator = equityCalculator;
+		this.calculations = new Semaphore(maxConcurrent);
+	}
+
+	@GetMapping("/equity")
+	public ResponseEntity<GetEquityResponseDto> getEquity(
+			@RequestParam(defaultValue = "" + EquityCalculator.DEFAULT_SAMPLES) int samples,
+			@RequestParam(defaultValue = "0") long timeBudgetMillis, HttpServletRequest request) {
+		return getEquity(TableRegistry.DEFAULT_TABLE_ID, samples, timeBudgetMillis, request);
+	}
+
+	/**
+	 * Chances of all active players with the current community cards. Exact if there are at most as many possible
+	 * boards as samples, estimated otherwise. The cards are taken from the last snapshot of the table, so the
+	 * calculation runs on the request thread and does not hold up the table. The samples are limited to a million,
+	 * below the boards of a heads-up pre-flop, and only a few calculations run at once, further requests are refused
+	 * with 429 instead of queuing up on the common pool.
+	 * <p>
+	 * The chances are derived from the hidden hand cards, so they are only shown once no one can bet anymore: after
+	 * the hand ended or when all active players are all-in. Only users with the {@link #PRIVILEGED_ROLE} get them
+	 * while the players are still betting.
+	 *
+	 * @param samples          amount of boards to deal, at most {@link #MAX_SAMPLES}
+	 * @param timeBudgetMillis stops dealing once exceeded, 0 for no limit
+	 */
+	@GetMapping("/tables/{tableId}/equity")
+	public ResponseEntity<GetEquityResponseDto> getEquity(@PathVariable String tableId,
+			@RequestParam(defaultValue = "" + EquityCalculator.DEFAULT_SAMPLES) int samples,
+			@RequestParam(defaultValue = "0") long timeBudgetMillis, HttpServletRequest request) {
+		TableSnapshot table = tableRegistry.getTable(tableId).getSnapshot();
+		List<TableSnapshot.Seat> players = table.getPlayers().stream()
+				.filter(TableSnapshot.Seat::isActive)
+				.collect(Collectors.toList());
+		if (!isBettingOver(table, players) && !request.isUserInRole(PRIVILEGED_ROLE)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		if (!calculations.tryAcquire()) {
+			return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+		}
+		Equity equity;
+		try {
+			long[] handCardsMasks = players.stream().mapToLong(player -> CardCodec.maskOf(player.getHandCards()))
+					.toArray();
+			equity = equityCalculator.calculate(handCardsMasks, CardCodec.maskOf(table.getCommunityCards()),
+					Math.max(1, Math.min(samples, MAX_SAMPLES)), Duration.ofMillis(Math.max(0, timeBudgetMillis)));
+		} finally {
+			calculations.release();
+		}
+
+		GetEquityResponseDto response = new GetEquityResponseDto();
+		response.setSamples(equity.getSamples());
+		response.setExact(equity.isExact());
+		for (int i = 0; i < players.size(); i++) {
+			response.getPlayers().add(new PlayerEquityDto(players.get(i).getId(), equity.getWinPercentage(i),
+					equity.getTiePercentage(i), equity.getEquityPercentage(i)));
+		}
+		return ResponseEntity.ok(response);
+	}
+
+	private static boolean isBettingOver(TableSnapshot table, List<TableSnapshot.Seat> activePlayers) {
+		return table.getState() == GameState.ENDED || activePlayers.stream().allMatch(player -> player.getCash() == 0);
+	}
+}
@@ -0,0 +1,52 @@
+package com.sap.ase.poker.rest;
+
+import com.sap.ase.poker.dto.DeckPipelineMetricsDto;
+import com.sap.ase.poker.dto.TablePollMetricsDto;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(MetricsController.PATH)
+public class MetricsController {
+
+	public static final String PATH = TableController.PATH + "/metrics";
+
+	private final ShuffledDeckSupplier shuffledDeckSupplier;
+
+	private final TableViewCache tableViewCache;
+
+	public MetricsController(ShuffledDeckSupplier shuffledDeckSupplier, TableViewCache tableViewCache) {
+		this.shuffledDeckSupplier = shuffledDeckSupplier;
+		this.tableViewCache = tableViewCache;
+	}
+
+	/**
+	 * Fill level of the buffer of ready decks and how often it was drained
+	 */
+	@GetMapping("/deck-pipeline")
+	public DeckPipelineMetricsDto getDeckPipelineMetrics() {
+		DeckPipelineMetricsDto metrics = new DeckPipelineMetricsDto();
+		metrics.setFillLevel(shuffledDeckSupplier.getFillLevel());
+		metrics.setTargetFill(shuffledDeckSupplier.getTargetFill());
+		metrics.setCapacity(shuffledDeckSupplier.getCapacity());
+		metrics.setDecksPerSecond(shuffledDeckSupplier.getDecksPerSecond());
+		metrics.setFallbacks(shuffledDeckSupplier.getFallbacks());
+		return metrics;
+	}
+
+	/**
+	 * Polls of the tables and the share of them answered with 304 Not Modified
+	 */
+	@GetMapping("/table-polls")
+	public TablePollMetricsDto getTablePollMetrics() {
+		TablePollMetricsDto metrics = new TablePollMetricsDto();
+		long polls = tableViewCache.getPolls();
+		long notModified = tableViewCache.getNotModifiedPolls();
+		metrics.setPolls(polls);
+		metrics.setNotModified(notModified);
+		metrics.setNotModifiedRatio(polls == 0 ? 0 : (double) notModified / polls);
+		return metrics;
+	}
+}
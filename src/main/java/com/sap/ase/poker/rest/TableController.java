@@ -2,17 +2,36 @@ package com.sap.ase.poker.rest;
 
 import com.sap.ase.poker.data.PlayerNamesRepository;
 import com.sap.ase.poker.dto.BetRequestDto;
-import com.sap.ase.poker.dto.CardDto;
-import com.sap.ase.poker.dto.GetTableResponseDto;
-import com.sap.ase.poker.dto.PlayerDto;
+import com.sap.ase.poker.dto.BetResultDto;
+import com.sap.ase.poker.dto.TableBetRequestDto;
 import com.sap.ase.poker.model.IllegalActionException;
 import com.sap.ase.poker.model.IllegalAmountException;
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableRegistry;
 import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.security.Principal;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping(TableController.PATH)
@@ -20,50 +39,230 @@ public class TableController {
 
 	public static final String PATH = "/api/v1";
 
-	private final TableService tableService;
+	public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+	public static final int MAX_BATCH_SIZE = 100;
+
+	private final TableRegistry tableRegistry;
 
 	private final PlayerNamesRepository playerNamesRepository;
 
-	public TableController(TableService tableService, PlayerNamesRepository playerNamesRepository) {
-		this.tableService = tableService;
+	private final TableViewCache tableViewCache;
+
+	private final TableEventStreams tableEventStreams;
+
+	private final Executor streamExecutor;
+
+	private final long longPollTimeoutMillis;
+
+	public TableController(TableRegistry tableRegistry, PlayerNamesRepository playerNamesRepository,
+			TableViewCache tableViewCache, TableEventStreams tableEventStreams,
+			@Qualifier("tableStreamExecutor") Executor streamExecutor,
+			@Value("${poker.table.long-poll.timeout-millis:30000}") long longPollTimeoutMillis) {
+		this.tableRegistry = tableRegistry;
 		this.playerNamesRepository = playerNamesRepository;
+		this.tableViewCache = tableViewCache;
+		this.tableEventStreams = tableEventStreams;
+		this.streamExecutor = streamExecutor;
+		this.longPollTimeoutMillis = longPollTimeoutMillis;
 	}
 
 	@GetMapping
-	public GetTableResponseDto getTable(Principal principal) {
-		String playerId = principal.getName();
-		GetTableResponseDto tableStatus = new GetTableResponseDto();
+	public ResponseEntity<byte[]> getTable(Principal principal, WebRequest request) {
+		return getTable(TableRegistry.DEFAULT_TABLE_ID, principal, request);
+	}
+
+	@GetMapping(params = "sinceVersion")
+	public DeferredResult<ResponseEntity<byte[]>> watchTable(@RequestParam long sinceVersion, Principal principal) {
+		return watchTable(TableRegistry.DEFAULT_TABLE_ID, sinceVersion, principal);
+	}
+
+	@GetMapping(params = "base")
+	public ResponseEntity<byte[]> getTableChanges(@RequestParam String base, Principal principal) {
+		return getTableChanges(TableRegistry.DEFAULT_TABLE_ID, base, principal);
+	}
 
-		tableStatus.setPlayers(tableService.getPlayers().stream().map(PlayerDto::new).collect(Collectors.toList()));
-		tableStatus.setCurrentPlayer(tableService.getCurrentPlayer().map(PlayerDto::new).orElse(null));
-		tableStatus.setPot(tableService.getPot());
-		tableStatus.setPlayerCards(tableService.getPlayerCards(playerId).stream().map(CardDto::new).collect(Collectors.toList()));
-		tableStatus.setCommunityCards(tableService.getCommunityCards().stream().map(CardDto::new).collect(Collectors.toList()));
-		tableStatus.setBets(tableService.getBets());
-		tableStatus.setState(tableService.getState().getValue());
-		tableStatus.setWinner(tableService.getWinner().map(PlayerDto::new).orElse(null));
-		tableStatus.setWinnerHand(tableService.getWinnerHand().stream().map(CardDto::new).collect(Collectors.toList()));
-		return tableStatus;
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamTable(Principal principal,
+			@RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+		return streamTable(TableRegistry.DEFAULT_TABLE_ID, principal, lastEventId);
 	}
 
 	@PostMapping("/players")
-	public ResponseEntity<Void> joinTable(Principal principal) {
-		String playerId = principal.getName();
-		String playerName = playerNamesRepository.getNameForId(playerId);
-		tableService.addPlayer(playerId, playerName);
-		return ResponseEntity.noContent().build();
+	public CompletableFuture<ResponseEntity<Void>> joinTable(Principal principal) {
+		return joinTable(TableRegistry.DEFAULT_TABLE_ID, principal);
 	}
 
 	@PostMapping("/actions")
-	public void placeBet(@RequestBody BetRequestDto betRequest) throws IllegalAmountException,IllegalActionException{
-		int amount = betRequest.getArgs().length == 0 ? 0 : betRequest.getArgs()[0];
-		tableService.performAction(betRequest.getType(), amount);
+	public CompletableFuture<Void> placeBet(@RequestBody BetRequestDto betRequest) throws IllegalAmountException,IllegalActionException{
+		return placeBet(TableRegistry.DEFAULT_TABLE_ID, betRequest);
 	}
 
 	@PostMapping("/start")
-	public ResponseEntity<Void> start() {
-		tableService.start();
+	public CompletableFuture<ResponseEntity<Void>> start() {
+		return start(TableRegistry.DEFAULT_TABLE_ID);
+	}
+
+	/**
+	 * @param shuffler shuffler of the new table, e.g. {@code simulation} for a table of bots, the default one if absent
+	 */
+	@PostMapping("/tables")
+	public ResponseEntity<Void> createTable(Principal principal, @RequestParam(required = false) String shuffler) {
+		String tableId = tableRegistry.createTable(principal.getName(), shuffler);
+		return ResponseEntity.created(URI.create(PATH + "/tables/" + tableId)).build();
+	}
+
+	/**
+	 * The views are evicted after the table is gone, so a poll racing with the close cannot cache them again
+	 */
+	@DeleteMapping("/tables/{tableId}")
+	public ResponseEntity<Void> closeTable(@PathVariable String tableId, Principal principal) {
+		tableRegistry.closeTable(tableId, principal.getName());
+		tableViewCache.evict(tableId);
+		tableEventStreams.close(tableId);
 		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * The status is served from the views of the last snapshot of the table, so polling neither waits for nor holds
+	 * up its actions. A poll with the entity tag of the current view is answered with 304 Not Modified and no body.
+	 */
+	@GetMapping("/tables/{tableId}")
+	public ResponseEntity<byte[]> getTable(@PathVariable String tableId, Principal principal, WebRequest request) {
+		TableSnapshot snapshot = tableRegistry.getTable(tableId).getSnapshot();
+		String playerId = principal.getName();
+		String eTag = tableViewCache.getETag(snapshot, playerId);
+		boolean notModified = request.checkNotModified(eTag);
+		tableViewCache.recordPoll(notModified);
+		if (notModified) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		return getView(tableId, snapshot, playerId);
+	}
+
+	/**
+	 * Long poll: answers as soon as the table has moved past the given version, or with the unchanged status after
+	 * the timeout. The request is parked without holding a thread until the mailbox of the table completes it. The
+	 * answer to a change is rendered and written by the stream pool, like the event streams, never by the mailbox.
+	 * The answer to a timeout is set right in the timeout callback, a result set after it returns would be dropped.
+	 */
+	@GetMapping(path = "/tables/{tableId}", params = "sinceVersion")
+	public DeferredResult<ResponseEntity<byte[]>> watchTable(@PathVariable String tableId,
+			@RequestParam long sinceVersion, Principal principal) {
+		TableMailbox table = tableRegistry.getTable(tableId);
+		String playerId = principal.getName();
+		DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>(longPollTimeoutMillis);
+		CompletableFuture<TableSnapshot> change = table.watch(sinceVersion);
+		result.onTimeout(() -> result.setResult(getView(tableId, table.getSnapshot(), playerId)));
+		result.onCompletion(() -> change.cancel(false));
+		change.thenAcceptAsync(snapshot -> result.setResult(getView(tableId, snapshot, playerId)), streamExecutor);
+		return result;
+	}
+
+	/**
+	 * The changes of the status since the version the client has, for clients that poll but want less than the whole
+	 * status. The base is the epoch and the version of the delta last received, like the entity tags, so a version
+	 * before a restart is never mistaken for one after it. A client further behind than the recent snapshots of the
+	 * table or of another node start gets the whole status.
+	 */
+	@GetMapping(path = "/tables/{tableId}", params = "base")
+	public ResponseEntity<byte[]> getTableChanges(@PathVariable String tableId, @RequestParam String base,
+			Principal principal) {
+		TableMailbox table = tableRegistry.getTable(tableId);
+		TableSnapshot snapshot = table.getSnapshot();
+		OptionalLong baseVersion = tableViewCache.versionOf(base);
+		TableSnapshot baseSnapshot = baseVersion.isPresent()
+				? table.getSnapshot(baseVersion.getAsLong()).orElse(null) : null;
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.body(tableViewCache.getChanges(tableId, snapshot, baseSnapshot, principal.getName()));
+	}
+
+	/**
+	 * Server-sent events with the table after every change, see {@link TableEventStreams}
+	 */
+	@GetMapping(path = "/tables/{tableId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamTable(@PathVariable String tableId, Principal principal,
+			@RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+		return tableEventStreams.subscribe(tableId, tableRegistry.getTable(tableId), principal.getName(), lastEventId);
+	}
+
+	@PostMapping("/tables/{tableId}/players")
+	public CompletableFuture<ResponseEntity<Void>> joinTable(@PathVariable String tableId, Principal principal) {
+		TableMailbox table = tableRegistry.getTable(tableId);
+		String playerId = principal.getName();
+		String playerName = playerNamesRepository.getNameForId(playerId);
+		return table.execute(tableService -> tableService.addPlayer(playerId, playerName))
+				.thenApply(done -> ResponseEntity.noContent().build());
+	}
+
+	@PostMapping("/tables/{tableId}/actions")
+	public CompletableFuture<Void> placeBet(@PathVariable String tableId, @RequestBody BetRequestDto betRequest)
+			throws IllegalAmountException, IllegalActionException {
+		int amount = amountOf(betRequest);
+		return tableRegistry.getTable(tableId)
+				.execute(tableService -> tableService.performAction(betRequest.getType(), amount));
+	}
+
+	/**
+	 * Places the bets in their order, for bots and replays. The bets of one table are placed by a single command of
+	 * its mailbox, so the batch costs one request and one hop per table. A bet without table id is placed at the
+	 * default table. Every bet gets its own result, a rejected bet does not stop the others.
+	 * <p>
+	 * A batch of more than {@link #MAX_BATCH_SIZE} bets is refused, so one request cannot hold up a table for long.
+	 * All tables are looked up before any bet is queued, a batch with an unknown or closed table is refused as a whole.
+	 */
+	@PostMapping("/actions/batch")
+	public CompletableFuture<List<BetResultDto>> placeBets(@RequestBody List<TableBetRequestDto> betRequests) {
+		if (betRequests.size() > MAX_BATCH_SIZE) {
+			throw new IllegalActionException("No more than " + MAX_BATCH_SIZE + " bets per batch");
+		}
+		BetResultDto[] results = new BetResultDto[betRequests.size()];
+		Map<String, List<Integer>> betsOfTables = new LinkedHashMap<>();
+		for (int bet = 0; bet < betRequests.size(); bet++) {
+			String tableId = Optional.ofNullable(betRequests.get(bet).getTableId())
+					.orElse(TableRegistry.DEFAULT_TABLE_ID);
+			betsOfTables.computeIfAbsent(tableId, id -> new ArrayList<>()).add(bet);
+		}
+		Map<String, TableMailbox> mailboxes = new HashMap<>();
+		betsOfTables.keySet().forEach(tableId -> mailboxes.put(tableId, tableRegistry.getTable(tableId)));
+		List<CompletableFuture<Void>> tables = new ArrayList<>();
+		betsOfTables.forEach((tableId, bets) -> tables.add(mailboxes.get(tableId).execute(tableService -> bets.forEach(
+				bet -> results[bet] = placeBet(tableService, betRequests.get(bet))))));
+		return CompletableFuture.allOf(tables.toArray(new CompletableFuture<?>[0]))
+				.thenApply(done -> Arrays.asList(results));
+	}
+
+	@PostMapping("/tables/{tableId}/start")
+	public CompletableFuture<ResponseEntity<Void>> start(@PathVariable String tableId) {
+		return tableRegistry.getTable(tableId).execute(TableService::start)
+				.thenApply(done -> ResponseEntity.noContent().build());
+	}
+
+	private static BetResultDto placeBet(TableService tableService, BetRequestDto betRequest) {
+		try {
+			tableService.performAction(betRequest.getType(), amountOf(betRequest));
+		} catch (RuntimeException e) {
+			return rejected(e);
+		}
+		BetResultDto result = new BetResultDto();
+		result.setApplied(true);
+		return result;
+	}
+
+	private static BetResultDto rejected(RuntimeException e) {
+		BetResultDto result = new BetResultDto();
+		result.setError(e.getMessage());
+		return result;
+	}
+
+	private static int amountOf(BetRequestDto betRequest) {
+		int[] args = betRequest.getArgs();
+		return args == null || args.length == 0 ? 0 : args[0];
+	}
 
+	private ResponseEntity<byte[]> getView(String tableId, TableSnapshot snapshot, String playerId) {
+		return ResponseEntity.ok().eTag(tableViewCache.getETag(snapshot, playerId))
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(tableViewCache.getView(tableId, snapshot, playerId));
 	}
-}
\ No newline at end of file
+}
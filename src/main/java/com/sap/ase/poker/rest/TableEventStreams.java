@@ -0,0 +1,202 @@
+package com.sap.ase.poker.rest;
+
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent event streams of the tables. A table with streams is watched through its mailbox and every change is
+ * put into the bounded buffer of each of its streams. The buffers are written to the clients by the stream pool,
+ * so the mailbox never waits for a client. A table is watched as long as it has streams.
+ * <p>
+ * Every event is the whole table as the viewer sees it, with the version as event id. A stream whose client falls
+ * behind by more than its buffer loses the buffered changes and gets a single {@link #RESYNC_EVENT} with the current
+ * table instead. A client reconnecting with the id of its last event only gets the table again if it has changed
+ * since.
+ * <p>
+ * A write blocks while the client does not read, the connector fails it after the write timeout. A stream whose write
+ * has not finished within the write timeout when the next change arrives gets no further changes and ends once the
+ * write returns, the client reconnects with the id of its last event and gets the current table.
+ */
+@Component
+public class TableEventStreams {
+
+    public static final String TABLE_EVENT = "table";
+    public static final String RESYNC_EVENT = "resync";
+
+    private final TableViewCache tableViewCache;
+    private final Executor executor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final Map<String, Set<Stream>> tables = new ConcurrentHashMap<>();
+
+    public TableEventStreams(TableViewCache tableViewCache, @Qualifier("tableStreamExecutor") Executor executor,
+            @Value("${poker.table.stream.buffer:16}") int bufferSize,
+            @Value("${poker.table.stream.timeout-millis:300000}") long timeoutMillis,
+            @Value("${poker.table.stream.write-timeout-millis:5000}") long writeTimeoutMillis) {
+        this.tableViewCache = tableViewCache;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+    }
+
+    /**
+     * @param lastEventId id of the last event the client has received, null on the first connect
+     */
+    public SseEmitter subscribe(String tableId, TableMailbox table, String playerId, String lastEventId) {
+        Stream stream = new Stream(tableId, table, playerId, createEmitter(),
+                tableViewCache.versionOf(lastEventId).orElse(0));
+        Set<Stream> created = ConcurrentHashMap.newKeySet();
+        Set<Stream> streams = tables.compute(tableId, (id, existing) -> {
+            Set<Stream> joined = existing == null ? created : existing;
+            joined.add(stream);
+            return joined;
+        });
+        if (streams == created) {
+            watch(tableId, table, streams, table.getSnapshot().getVersion());
+        }
+        stream.emitter.onCompletion(() -> remove(stream));
+        stream.offer(table.getSnapshot());
+        return stream.emitter;
+    }
+
+    /**
+     * Ends the streams of the closed table
+     */
+    public void close(String tableId) {
+        Set<Stream> streams = tables.remove(tableId);
+        if (streams != null) {
+            streams.forEach(stream -> stream.emitter.complete());
+        }
+    }
+
+    /**
+     * The table is no longer watched after its last stream, a new stream watches it again
+     */
+    private void remove(Stream stream) {
+        tables.computeIfPresent(stream.tableId, (id, streams) -> {
+            streams.remove(stream);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Runs on the thread of the mailbox, it only hands the change to the streams
+     */
+    private void watch(String tableId, TableMailbox table, Set<Stream> streams, long version) {
+        table.watch(version).thenAccept(snapshot -> {
+            if (tables.get(tableId) == streams) {
+                streams.forEach(stream -> stream.offer(snapshot));
+                watch(tableId, table, streams, snapshot.getVersion());
+            }
+        });
+    }
+
+    private class Stream {
+        private final String tableId;
+        private final TableMailbox table;
+        private final String playerId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TableSnapshot> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean resync;
+        private volatile boolean sending;
+        private volatile long sendStarted;
+        private volatile boolean stalled;
+        private long sentVersion;
+
+        Stream(String tableId, TableMailbox table, String playerId, SseEmitter emitter, long sentVersion) {
+            this.tableId = tableId;
+            this.table = table;
+            this.playerId = playerId;
+            this.emitter = emitter;
+            this.sentVersion = sentVersion;
+        }
+
+        void offer(TableSnapshot snapshot) {
+            if (sending && System.nanoTime() - sendStarted >= writeTimeoutNanos) {
+                stalled = true;
+                remove(this);
+                return;
+            }
+            if (!buffer.offer(snapshot)) {
+                resync = true;
+                buffer.clear();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Writes the changes buffered so far, changes offered meanwhile are written by the next run
+         */
+        private void drain() {
+            List<TableSnapshot> changes = new ArrayList<>();
+            buffer.drainTo(changes);
+            try {
+                if (resync) {
+                    resync = false;
+                    send(RESYNC_EVENT, table.getSnapshot());
+                }
+                for (TableSnapshot snapshot : changes) {
+                    send(TABLE_EVENT, snapshot);
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return;
+            }
+            if (stalled) {
+                emitter.complete();
+                return;
+            }
+            scheduled.set(false);
+            if (!buffer.isEmpty() || resync) {
+                schedule();
+            }
+        }
+
+        /**
+         * Skips versions the client already has, e.g. the table offered on subscribing and its first change
+         */
+        private void send(String name, TableSnapshot snapshot) throws IOException {
+            if (snapshot.getVersion() > sentVersion && !stalled) {
+                sentVersion = snapshot.getVersion();
+                sendStarted = System.nanoTime();
+                sending = true;
+                try {
+                    emitter.send(SseEmitter.event().id(tableViewCache.getToken(snapshot)).name(name)
+                            .data(tableViewCache.getView(tableId, snapshot, playerId), MediaType.APPLICATION_JSON));
+                } finally {
+                    sending = false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.sap.ase.poker.dto.BetRequestDto;
+import com.sap.ase.poker.dto.SocketErrorDto;
+import com.sap.ase.poker.dto.SocketRequestDto;
+import com.sap.ase.poker.dto.TableDeltaDto;
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.apache.tomcat.websocket.Constants;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriTemplate;
+
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * WebSocket of a player at a table: the player sends its actions and acknowledges the versions it has received, the
+ * table sends its changes as deltas. One connection replaces the polls and the action requests of the player.
+ * <p>
+ * A delta holds the fields of the table status that differ from the last version the player has acknowledged, with
+ * that version as base, so applying it to the status of the base gives the current one. Until the first
+ * acknowledgement the base is empty and the delta is the whole status. As every delta is relative to the base, the
+ * connection may skip versions that changed while it was sending and a lost delta needs no resend. Like the event
+ * streams the connections are written by the stream pool, never by the mailbox of the table. A send blocked for the
+ * send time limit fails, so a client that stopped reading holds a thread of the pool no longer than that.
+ */
+@Component
+public class TableSocketHandler extends TextWebSocketHandler {
+
+    private static final UriTemplate TABLE_SOCKET = new UriTemplate(TableController.PATH + "/tables/{tableId}/socket");
+    private static final String CONNECTION = "connection";
+    /**
+     * Versions sent but not acknowledged yet that can still become the base
+     */
+    private static final int UNACKNOWLEDGED_LIMIT = 16;
+
+    private final TableRegistry tableRegistry;
+    private final TableViewCache tableViewCache;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+
+    public TableSocketHandler(TableRegistry tableRegistry, TableViewCache tableViewCache, ObjectMapper objectMapper,
+            @Qualifier("tableStreamExecutor") Executor executor,
+            @Value("${poker.table.socket.send-time-limit-millis:10000}") int sendTimeLimitMillis,
+            @Value("${poker.table.socket.buffer-size-limit:65536}") int bufferSizeLimit) {
+        this.tableRegistry = tableRegistry;
+        this.tableViewCache = tableViewCache;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        if (session instanceof NativeWebSocketSession) {
+            Session nativeSession = ((NativeWebSocketSession) session).getNativeSession(Session.class);
+            if (nativeSession != null) {
+                nativeSession.getUserProperties().put(Constants.BLOCKING_SEND_TIMEOUT_PROPERTY,
+                        (long) sendTimeLimitMillis);
+            }
+        }
+        String tableId = TABLE_SOCKET.match(session.getUri().getPath())
+                .getOrDefault("tableId", TableRegistry.DEFAULT_TABLE_ID);
+        Connection connection = new Connection(tableRegistry.getTable(tableId),
+                session.getPrincipal().getName(),
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimit));
+        session.getAttributes().put(CONNECTION, connection);
+        connection.watch(0);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Connection connection = (Connection) session.getAttributes().get(CONNECTION);
+        SocketRequestDto request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), SocketRequestDto.class);
+        } catch (JsonProcessingException e) {
+            connection.sendError(e.getOriginalMessage());
+            return;
+        }
+        if (request.getAck() != null) {
+            connection.ack(request.getAck());
+        }
+        if (request.getAction() != null) {
+            connection.perform(request.getAction());
+        }
+    }
+
+    /**
+     * A session closed while connecting, e.g. to an unknown table, has no connection
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = (Connection) session.getAttributes().get(CONNECTION);
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private class Connection {
+        private final TableMailbox table;
+        private final String playerId;
+        private final WebSocketSession session;
+        private final Map<Long, JsonNode> unacknowledged = new LinkedHashMap<>();
+        private JsonNode base = JsonNodeFactory.instance.objectNode();
+        private long baseVersion;
+        private volatile CompletableFuture<TableSnapshot> change;
+
+        Connection(TableMailbox table, String playerId, WebSocketSession session) {
+            this.table = table;
+            this.playerId = playerId;
+            this.session = session;
+        }
+
+        /**
+         * Sends the first version after the given one, then watches for the next change
+         */
+        void watch(long version) {
+            change = table.watch(version);
+            change.thenAcceptAsync(snapshot -> {
+                if (send(snapshot)) {
+                    watch(snapshot.getVersion());
+                }
+            }, executor);
+        }
+
+        synchronized void ack(long version) {
+            JsonNode view = unacknowledged.get(version);
+            if (view != null) {
+                base = view;
+                baseVersion = version;
+                unacknowledged.keySet().removeIf(sent -> sent <= version);
+            }
+        }
+
+        /**
+         * The change is sent as delta, only a rejected action is answered
+         */
+        void perform(BetRequestDto action) {
+            int amount = action.getArgs() == null || action.getArgs().length == 0 ? 0 : action.getArgs()[0];
+            table.execute(tableService -> tableService.performAction(action.getType(), amount))
+                    .exceptionally(e -> {
+                        executor.execute(() -> sendError(e.getMessage()));
+                        return null;
+                    });
+        }
+
+        void sendError(String message) {
+            SocketErrorDto error = new SocketErrorDto();
+            error.setError(message);
+            send(error);
+        }
+
+        void close() {
+            change.cancel(false);
+        }
+
+        /**
+         * The status is mapped to a tree right away, the cached json would have to be parsed for the comparison
+         */
+        private boolean send(TableSnapshot snapshot) {
+            JsonNode view = objectMapper.valueToTree(tableViewCache.toDto(snapshot, playerId));
+            TableDeltaDto delta = new TableDeltaDto();
+            synchronized (this) {
+                unacknowledged.put(snapshot.getVersion(), view);
+                if (unacknowledged.size() > UNACKNOWLEDGED_LIMIT) {
+                    unacknowledged.remove(unacknowledged.keySet().iterator().next());
+                }
+                delta.setEpoch(tableViewCache.getEpoch());
+                delta.setBaseVersion(baseVersion);
+                delta.setChanges(TableViewCache.diff(base, view));
+            }
+            return send(delta);
+        }
+
+        /**
+         * A client that cannot keep up or has gone is disconnected, it reconnects and gets the whole status
+         */
+        private boolean send(Object message) {
+            try {
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsBytes(message)));
+                return true;
+            } catch (IOException | IllegalStateException | SessionLimitExceededException e) {
+                try {
+                    session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException ignored) {
+                    // the session is gone already
+                }
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sap.ase.poker.dto.CardDto;
+import com.sap.ase.poker.dto.GetTableResponseDto;
+import com.sap.ase.poker.dto.PlayerDto;
+import com.sap.ase.poker.dto.TableDeltaDto;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Serialized table status of the last snapshot of every table. The status is the same for all viewers except for
+ * their own hand cards, so the public part is serialized once per version and only the hand cards of every player
+ * are spliced in, once per player. Until the next version a poll is a map lookup.
+ */
+@Component
+public class TableViewCache {
+
+    private static final byte[] PLAYER_CARDS = "\"playerCards\":[]".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final TableRegistry tableRegistry;
+    private final Map<String, Views> tables = new ConcurrentHashMap<>();
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder notModifiedPolls = new LongAdder();
+
+    public TableViewCache(ObjectMapper objectMapper, TableRegistry tableRegistry) {
+        this.objectMapper = objectMapper;
+        this.tableRegistry = tableRegistry;
+    }
+
+    /**
+     * Polls racing for a new version may each serialize it, the cache only ever moves on to a newer version. Reads
+     * never wait for each other.
+     *
+     * @return the status as the player sees it in the given snapshot, so it always matches {@link #getETag}
+     */
+    public byte[] getView(String tableId, TableSnapshot snapshot, String playerId) {
+        return viewsOf(tableId, snapshot).getView(playerId);
+    }
+
+    /**
+     * The view of the player as changes to that of the base, as {@link TableDeltaDto}, see {@link #diff}. Clients of
+     * the same base share the changes until the next version.
+     *
+     * @param base snapshot of the version the client has, null if the table no longer knows it, the changes are then
+     *             the whole view with base version 0
+     */
+    public byte[] getChanges(String tableId, TableSnapshot snapshot, TableSnapshot base, String playerId) {
+        return viewsOf(tableId, snapshot).getChanges(base, playerId);
+    }
+
+    /**
+     * The views of exactly the version of the snapshot. A request with an older snapshot than the cached one, e.g. one
+     * taken before a racing poll cached the next version, gets views of its own and leaves the cache as it is.
+     * <p>
+     * A table closed meanwhile is evicted after it is gone from the registry, so views put after that eviction are
+     * removed again right away and only serve the request itself.
+     */
+    private Views viewsOf(String tableId, TableSnapshot snapshot) {
+        Views views = tables.get(tableId);
+        Views created = null;
+        if (views == null || views.snapshot.getVersion() != snapshot.getVersion()) {
+            created = new Views(snapshot);
+            views = tables.merge(tableId, created, TableViewCache::newer);
+            if (!tableRegistry.isOpen(tableId)) {
+                tables.remove(tableId, views);
+            }
+        }
+        return views.snapshot.getVersion() == snapshot.getVersion() ? views : created;
+    }
+
+    private static Views newer(Views cached, Views created) {
+        return created.snapshot.getVersion() > cached.snapshot.getVersion() ? created : cached;
+    }
+
+    /**
+     * Call after the table is closed in the registry
+     */
+    public void evict(String tableId) {
+        tables.remove(tableId);
+    }
+
+    /**
+     * Strong entity tag of the view of the player: the version and the seat of the player, viewers without cards
+     * share the public view. The start of this node tells the versions apart from those before a restart.
+     */
+    public String getETag(TableSnapshot snapshot, String playerId) {
+        return "\"" + epoch + "-" + snapshot.getVersion() + seatOf(snapshot, playerId) + "\"";
+    }
+
+    /**
+     * Start of this node, tells its versions apart from those before a restart
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * The version of the snapshot together with the start of this node, e.g. as event id or as base of changes
+     */
+    public String getToken(TableSnapshot snapshot) {
+        return epoch + "-" + snapshot.getVersion();
+    }
+
+    /**
+     * @return the version of a token of {@link #getToken}, empty for tokens of another node start or no valid token
+     */
+    public OptionalLong versionOf(String token) {
+        String prefix = epoch + "-";
+        if (token == null || !token.startsWith(prefix)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(token.substring(prefix.length())));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    public void recordPoll(boolean notModified) {
+        polls.increment();
+        if (notModified) {
+            notModifiedPolls.increment();
+        }
+    }
+
+    public long getPolls() {
+        return polls.sum();
+    }
+
+    /**
+     * Polls answered with 304 Not Modified
+     */
+    public long getNotModifiedPolls() {
+        return notModifiedPolls.sum();
+    }
+
+    private static String seatOf(TableSnapshot snapshot, String playerId) {
+        List<TableSnapshot.Seat> players = snapshot.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            TableSnapshot.Seat player = players.get(seat);
+            if (player.getId().equals(playerId) && !player.getHandCards().isEmpty()) {
+                return "-" + seat;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Maps the snapshot without the cache
+     */
+    public GetTableResponseDto toDto(TableSnapshot table, String playerId) {
+        GetTableResponseDto tableStatus = new GetTableResponseDto();
+
+        tableStatus.setVersion(table.getVersion());
+        tableStatus.setPlayers(table.getPlayers().stream().map(TableViewCache::toPlayerDto).collect(Collectors.toList()));
+        tableStatus.setCurrentPlayer(table.getCurrentPlayer().map(TableViewCache::toPlayerDto).orElse(null));
+        tableStatus.setPot(table.getPot());
+        tableStatus.setPlayerCards(toCardDtos(table.getPlayerCards(playerId)));
+        tableStatus.setCommunityCards(toCardDtos(table.getCommunityCards()));
+        tableStatus.setBets(table.getBets());
+        tableStatus.setState(table.getState().getValue());
+        tableStatus.setWinner(table.getWinner().map(TableViewCache::toPlayerDto).orElse(null));
+        tableStatus.setWinnerHand(toCardDtos(table.getWinnerHand()));
+        return tableStatus;
+    }
+
+    /**
+     * Changes per entry, so a change of one bet or one player does not resend all of them:
+     * <ul>
+     * <li>of an object the fields that differ from the base, fields the view no longer has are null</li>
+     * <li>of a list an object of the entries that differ by their index, with the new {@code size} if it changed</li>
+     * <li>entries that are objects or lists in both are changed the same way, anything else is sent whole</li>
+     * </ul>
+     */
+    static ObjectNode diff(JsonNode base, JsonNode view) {
+        ObjectNode changes = JsonNodeFactory.instance.objectNode();
+        view.fields().forEachRemaining(field -> {
+            JsonNode baseValue = base.get(field.getKey());
+            if (!field.getValue().equals(baseValue)) {
+                changes.set(field.getKey(), change(baseValue, field.getValue()));
+            }
+        });
+        base.fieldNames().forEachRemaining(name -> {
+            if (!view.has(name)) {
+                changes.putNull(name);
+            }
+        });
+        return changes;
+    }
+
+    private static ObjectNode diffEntries(JsonNode base, JsonNode view) {
+        ObjectNode changes = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < view.size(); i++) {
+            if (i >= base.size()) {
+                changes.set(Integer.toString(i), view.get(i));
+            } else if (!view.get(i).equals(base.get(i))) {
+                changes.set(Integer.toString(i), change(base.get(i), view.get(i)));
+            }
+        }
+        if (view.size() != base.size()) {
+            changes.put("size", view.size());
+        }
+        return changes;
+    }
+
+    private static JsonNode change(JsonNode base, JsonNode view) {
+        if (base == null || base.getNodeType() != view.getNodeType()) {
+            return view;
+        }
+        if (view.isObject()) {
+            return diff(base, view);
+        }
+        return view.isArray() ? diffEntries(base, view) : view;
+    }
+
+    private static PlayerDto toPlayerDto(TableSnapshot.Seat player) {
+        PlayerDto playerDto = new PlayerDto();
+        playerDto.setId(player.getId());
+        playerDto.setName(player.getName());
+        playerDto.setCash(player.getCash());
+        return playerDto;
+    }
+
+    private static List<CardDto> toCardDtos(List<Card> cards) {
+        return cards.stream().map(CardDto::new).collect(Collectors.toList());
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The views of one snapshot. The public view has empty player cards, the view of a player replaces them.
+     */
+    private class Views {
+        private final TableSnapshot snapshot;
+        private final byte[] publicView;
+        private final int playerCardsStart;
+        private final int playerCardsEnd;
+        private final Map<String, byte[]> playerViews = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> changes = new ConcurrentHashMap<>();
+
+        Views(TableSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.publicView = serialize(toDto(snapshot, null));
+            this.playerCardsStart = indexOf(publicView, PLAYER_CARDS) + PLAYER_CARDS.length - 2;
+            this.playerCardsEnd = playerCardsStart + 2;
+        }
+
+        byte[] getView(String playerId) {
+            List<Card> playerCards = snapshot.getPlayerCards(playerId);
+            if (playerCards.isEmpty()) {
+                return publicView;
+            }
+            return playerViews.computeIfAbsent(playerId, id -> {
+                byte[] cards = serialize(toCardDtos(playerCards));
+                byte[] view = new byte[publicView.length - (playerCardsEnd - playerCardsStart) + cards.length];
+                System.arraycopy(publicView, 0, view, 0, playerCardsStart);
+                System.arraycopy(cards, 0, view, playerCardsStart, cards.length);
+                System.arraycopy(publicView, playerCardsEnd, view, playerCardsStart + cards.length,
+                        publicView.length - playerCardsEnd);
+                return view;
+            });
+        }
+
+        byte[] getChanges(TableSnapshot base, String playerId) {
+            long baseVersion = base == null ? 0 : base.getVersion();
+            return changes.computeIfAbsent(baseVersion + "-" + playerId, key -> {
+                JsonNode baseView = base == null
+                        ? JsonNodeFactory.instance.objectNode() : objectMapper.valueToTree(toDto(base, playerId));
+                TableDeltaDto delta = new TableDeltaDto();
+                delta.setEpoch(epoch);
+                delta.setBaseVersion(baseVersion);
+                delta.setChanges(diff(baseView, objectMapper.valueToTree(toDto(snapshot, playerId))));
+                return serialize(delta);
+            });
+        }
+    }
+
+    /**
+     * Quotes within names are escaped in the json, so the first match is the field itself
+     */
+    private static int indexOf(byte[] bytes, byte[] part) {
+        int index = 0;
+        while (!startsWith(bytes, index, part)) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] part) {
+        for (int i = 0; i < part.length; i++) {
+            if (bytes[offset + i] != part[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
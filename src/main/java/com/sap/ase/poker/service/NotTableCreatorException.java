@@ -0,0 +1,13 @@
+package com.sap.ase.poker.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class NotTableCreatorException extends RuntimeException {
+    private static final long serialVersionUID = -2270716594815873095L;
+
+    public NotTableCreatorException(String tableId) {
+        super("Only the creator may close the table with id " + tableId);
+    }
+}
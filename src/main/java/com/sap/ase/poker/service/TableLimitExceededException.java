@@ -0,0 +1,13 @@
+package com.sap.ase.poker.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TableLimitExceededException extends RuntimeException {
+    private static final long serialVersionUID = 6410954325437291806L;
+
+    public TableLimitExceededException(String message) {
+        super(message);
+    }
+}
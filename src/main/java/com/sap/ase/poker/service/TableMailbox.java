@@ -0,0 +1,164 @@
+package com.sap.ase.poker.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs the commands for one table one after another, so the {@link TableService} behind it is only ever accessed by
+ * one thread at a time and needs no locks.
+ * <p>
+ * The mailbox has no thread of its own. While it has commands it is scheduled once on the shared executor and runs
+ * up to {@link #BATCH_SIZE} of them, then it is scheduled again behind the other tables. Different tables therefore
+ * run in parallel on all threads of the executor.
+ */
+public class TableMailbox {
+
+    static final int BATCH_SIZE = 64;
+
+    private final TableService table;
+    private final Executor executor;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Queue<Watcher> watchers = new ConcurrentLinkedQueue<>();
+    private TableSnapshot notified;
+
+    public TableMailbox(TableService table, Executor executor) {
+        this.table = table;
+        this.executor = executor;
+        this.notified = table.getSnapshot();
+    }
+
+    /**
+     * @return the result of the command, or the exception it threw
+     */
+    public <T> CompletableFuture<T> submit(Function<TableService, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        commands.add(() -> {
+            try {
+                result.complete(command.apply(table));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    public CompletableFuture<Void> execute(Consumer<TableService> command) {
+        return submit(table -> {
+            command.accept(table);
+            return null;
+        });
+    }
+
+    /**
+     * The state after the last command that changed the table, read without waiting for the mailbox
+     */
+    public TableSnapshot getSnapshot() {
+        return table.getSnapshot();
+    }
+
+    /**
+     * One of the recent snapshots of the table, see {@link TableService#getSnapshot(long)}
+     */
+    public Optional<TableSnapshot> getSnapshot(long version) {
+        return table.getSnapshot(version);
+    }
+
+    /**
+     * Completes with the first snapshot after the given version, right away if the table is at another version
+     * already. Waiting watchers hold no thread, they are completed by the mailbox after the next change. Watchers
+     * completed or cancelled by the caller are dropped with the next watcher.
+     */
+    public CompletableFuture<TableSnapshot> watch(long version) {
+        CompletableFuture<TableSnapshot> change = new CompletableFuture<>();
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot.getVersion() == version) {
+            watchers.removeIf(Watcher::isDone);
+            watchers.add(new Watcher(version, change));
+            // a change published before the watcher was added may have been notified without it
+            snapshot = table.getSnapshot();
+        }
+        if (snapshot.getVersion() != version) {
+            change.complete(snapshot);
+        }
+        return change;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::runBatch);
+        }
+    }
+
+    /**
+     * A command added after the last poll finds the mailbox still scheduled, so it is picked up by the check after
+     * resetting the flag. The flag is reset whatever happens, a mailbox left scheduled would never run again.
+     */
+    private void runBatch() {
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable command = commands.poll();
+                if (command == null) {
+                    break;
+                }
+                try {
+                    command.run();
+                    notifyWatchers();
+                } catch (RuntimeException e) {
+                    // the caller of a command gets its exception from the result, nothing may stop the next one
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (!commands.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Every change publishes a new snapshot, so a snapshot other than the last notified one is a change. The
+     * watchers are taken out of the queue before any is completed, as a completed one may watch again and drop others
+     * from the queue meanwhile. A watcher of the version of the snapshot waits for the next change.
+     */
+    private void notifyWatchers() {
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != notified) {
+            notified = snapshot;
+            List<Watcher> waiting = new ArrayList<>();
+            for (Watcher watcher = watchers.poll(); watcher != null; watcher = watchers.poll()) {
+                waiting.add(watcher);
+            }
+            for (Watcher watcher : waiting) {
+                if (watcher.version == snapshot.getVersion()) {
+                    watchers.add(watcher);
+                } else {
+                    watcher.change.complete(snapshot);
+                }
+            }
+        }
+    }
+
+    private static class Watcher {
+        private final long version;
+        private final CompletableFuture<TableSnapshot> change;
+
+        Watcher(long version, CompletableFuture<TableSnapshot> change) {
+            this.version = version;
+            this.change = change;
+        }
+
+        boolean isDone() {
+            return change.isDone();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sap.ase.poker.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class TableNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = -3532960845468297312L;
+
+    public TableNotFoundException(String tableId) {
+        super("No table with id " + tableId);
+    }
+}
@@ -0,0 +1,100 @@
+package com.sap.ase.poker.service;
+
+import com.sap.ase.poker.model.IllegalActionException;
+import com.sap.ase.poker.model.deck.DeckSuppliers;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * All tables of this node by their id, every table is only accessed through its {@link TableMailbox}. The
+ * {@link TableService} bean is registered as the default table, which is also addressed by the endpoints without
+ * table id and cannot be closed.
+ * <p>
+ * Every other table is closed by the user who created it. A user may only have a few tables open at once and the node
+ * only a limited amount in total. A table is created with the default shuffler or one of its own, e.g. the fast
+ * simulation shuffler for a table of bots.
+ */
+@Service
+public class TableRegistry {
+
+    public static final String DEFAULT_TABLE_ID = "default";
+
+    private final DeckSuppliers deckSuppliers;
+    private final Executor tableExecutor;
+    private final int maxTables;
+    private final int maxTablesPerUser;
+    private final Map<String, TableMailbox> tables = new ConcurrentHashMap<>();
+    private final Map<String, String> creators = new ConcurrentHashMap<>();
+
+    public TableRegistry(TableService defaultTable, DeckSuppliers deckSuppliers,
+            @Qualifier("tableExecutor") Executor tableExecutor,
+            @Value("${poker.table.max-tables:1000}") int maxTables,
+            @Value("${poker.table.max-tables-per-user:3}") int maxTablesPerUser) {
+        this.deckSuppliers = deckSuppliers;
+        this.tableExecutor = tableExecutor;
+        this.maxTables = maxTables;
+        this.maxTablesPerUser = maxTablesPerUser;
+        tables.put(DEFAULT_TABLE_ID, new TableMailbox(defaultTable, tableExecutor));
+    }
+
+    /**
+     * Creating and closing tables is rare, they are serialized so the limits hold. Getting a table never waits.
+     *
+     * @param shuffler one of {@link DeckSuppliers#SHUFFLERS}, null for the default shuffler
+     * @return the id of the new table
+     */
+    public synchronized String createTable(String creatorId, String shuffler) {
+        if (shuffler != null && !DeckSuppliers.SHUFFLERS.contains(shuffler)) {
+            throw new IllegalActionException("Unknown shuffler " + shuffler
+                    + ", expected one of " + String.join(", ", DeckSuppliers.SHUFFLERS));
+        }
+        if (creators.size() >= maxTables) {
+            throw new TableLimitExceededException("No more than " + maxTables + " tables can be open");
+        }
+        if (creators.values().stream().filter(creatorId::equals).count() >= maxTablesPerUser) {
+            throw new TableLimitExceededException("No more than " + maxTablesPerUser + " tables per user");
+        }
+        String tableId = UUID.randomUUID().toString();
+        creators.put(tableId, creatorId);
+        tables.put(tableId, new TableMailbox(new TableService(deckSuppliers.get(shuffler)), tableExecutor));
+        return tableId;
+    }
+
+    public TableMailbox getTable(String tableId) {
+        TableMailbox table = tables.get(tableId);
+        if (table == null) {
+            throw new TableNotFoundException(tableId);
+        }
+        return table;
+    }
+
+    public boolean isOpen(String tableId) {
+        return tables.containsKey(tableId);
+    }
+
+    public synchronized void closeTable(String tableId, String userId) {
+        if (DEFAULT_TABLE_ID.equals(tableId)) {
+            throw new IllegalActionException("The default table cannot be closed");
+        }
+        String creatorId = creators.get(tableId);
+        if (creatorId == null) {
+            throw new TableNotFoundException(tableId);
+        }
+        if (!creatorId.equals(userId)) {
+            throw new NotTableCreatorException(tableId);
+        }
+        creators.remove(tableId);
+        tables.remove(tableId);
+    }
+
+    public Set<String> getTableIds() {
+        return tables.keySet();
+    }
+}
@@ -7,9 +7,8 @@ import com.sap.ase.poker.model.InactivePlayerException;
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
 import com.sap.ase.poker.model.deck.Deck;
-import com.sap.ase.poker.model.rules.HandRules;
-import com.sap.ase.poker.model.rules.WinnerRules;
-import com.sap.ase.poker.model.rules.Winners;
+import com.sap.ase.poker.model.rules.HandState;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -19,13 +18,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+/**
+ * State and rules of one table. It is not thread safe, all access goes through the {@link TableMailbox} of the table,
+ * except for {@link #getSnapshot()} and {@link #getSnapshot(long)}.
+ */
 @Service
 public class TableService {
 
+    /**
+     * Recent snapshots kept for clients asking for the changes since their version
+     */
+    public static final int HISTORY_SIZE = 16;
+
     private final Supplier<Deck> deckSupplier;
+    private final LongSupplier handSeeds;
+    private Deck deck;
     private GameState gameState;
 
     private List<Player> playerList;
@@ -43,15 +55,35 @@ public class TableService {
 
     private HashMap<String, Integer> playersBetMap;
 
+    private HashMap<String, HandState> handStates;
+
+    private long version;
+
+    private volatile TableSnapshot snapshot;
+
+    private final AtomicReferenceArray<TableSnapshot> history = new AtomicReferenceArray<>(HISTORY_SIZE);
+
+    @Autowired
     public TableService(Supplier<Deck> deckSupplier) {
+        this(deckSupplier, null);
+    }
+
+    /**
+     * Deals every hand from the next seed of the given stream instead of a seed of the shuffler, e.g. the recorded
+     * seeds of {@link #getHandSeed()} to replay the hands of a table
+     */
+    public TableService(Supplier<Deck> deckSupplier, LongSupplier handSeeds) {
         this.deckSupplier = deckSupplier;
+        this.handSeeds = handSeeds;
         this.gameState = GameState.OPEN;
         this.playerList = new ArrayList<>();
         this.communityCardList = new ArrayList<>();
         currentPlayerIndex = 0;
         lastBetAmount = 0;
         playersBetMap = new HashMap<>();
+        handStates = new HashMap<>();
         potAmount = 0;
+        publish();
     }
 
     public GameState getState() {
@@ -86,6 +118,36 @@ public class TableService {
         return potAmount;
     }
 
+    /**
+     * Best hand and strength of the player within the cards dealt so far, empty before the game has started
+     */
+    public Optional<HandState> getHandState(String playerId) {
+        return Optional.ofNullable(handStates.get(playerId));
+    }
+
+    /**
+     * Seed of the deck of the current hand, together with the actions it is enough to reproduce the hand. Empty with
+     * a shuffler that provides no seeds, like the secure one.
+     */
+    public OptionalLong getHandSeed() {
+        return deck == null ? OptionalLong.empty() : deck.getSeed();
+    }
+
+    /**
+     * The state after the last change, safe to read from any thread
+     */
+    public TableSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * One of the last {@value #HISTORY_SIZE} snapshots, safe to read from any thread. They are kept in a ring indexed
+     * by version, so a slot holding another version means the snapshot has been overwritten.
+     */
+    public Optional<TableSnapshot> getSnapshot(long version) {
+        return Optional.ofNullable(history.get(indexOf(version))).filter(recent -> recent.getVersion() == version);
+    }
+
     public Optional<Player> getWinner() {
         return Optional.ofNullable(winnerPlayer);
     }
@@ -114,14 +176,17 @@ public class TableService {
     public void start() {
         if (playerList.size() >= 2) {
             this.gameState = GameState.PRE_FLOP;
+            prepareDeck();
             for (Player player : playerList) {
-                Card firstCard = deckSupplier.get().draw();
-                Card secondCard = deckSupplier.get().draw();
+                Card firstCard = deck.draw();
+                Card secondCard = deck.draw();
                 player.setHandCards(Arrays.asList(firstCard, secondCard));
                 player.setActive();
+                handStates.put(player.getId(), new HandState(player.getHandCards()));
             }
             this.currentPlayer = playerList.get(0);
             this.currentPlayerIndex = 0;
+            publish();
         }
     }
 
@@ -135,6 +200,7 @@ public class TableService {
         newPlayer.setInactive();
         playerList.add(newPlayer);
         playersBetMap.put(playerId,0);
+        publish();
     }
 
     public void performAction(String action, int amount) throws IllegalAmountException, IllegalActionException {
@@ -152,9 +218,9 @@ public class TableService {
                 //means allPlayers have checked
                 if (currentPlayerIndex == playerList.size() - 1 && gameState==GameState.PRE_FLOP) {
                     this.gameState = GameState.FLOP;
-                    communityCardList.add(deckSupplier.get().draw());
-                    communityCardList.add(deckSupplier.get().draw());
-                    communityCardList.add(deckSupplier.get().draw());
+                    dealCommunityCard();
+                    dealCommunityCard();
+                    dealCommunityCard();
                 }
                 break;
             case "raise":
@@ -216,6 +282,7 @@ public class TableService {
                     winnerPlayer=expectedWinner;
                     this.gameState = GameState.ENDED;
                     postProcessingAfterAction(betAmount,oldGameState,action,amount);
+                    publish();
                     return;
                 }
                 break;
@@ -225,13 +292,10 @@ public class TableService {
         postProcessingAfterAction(betAmount,oldGameState,action,amount);
         if(gameState == GameState.ENDED){
             //Kailash ----DETERMINE_WINNERS, POT DISTRIBUTION
-                HandRules handRules=new HandRules();
-                WinnerRules winnerRules=new WinnerRules(handRules);
-                Winners winners =winnerRules.findWinners(communityCardList,playerList.stream().filter(player -> player.isActive()).collect(
-                  Collectors.toList()));
-                winnerPlayer=winners.getWinners().get(0);
+                winnerPlayer=findShowdownWinner();
                 winnerPlayer.addCash(potAmount);
         }
+        publish();
     }
 
     private void postProcessingAfterAction(int betAmount,GameState oldGameState,String action, int amount){
@@ -271,11 +335,11 @@ public class TableService {
                 break;
             case FLOP:
                 gameState = GameState.TURN;
-                communityCardList.add(deckSupplier.get().draw());
+                dealCommunityCard();
                 break;
             case TURN:
                 gameState = GameState.RIVER;
-                communityCardList.add(deckSupplier.get().draw());
+                dealCommunityCard();
                 break;
             case RIVER:
                 gameState = GameState.ENDED;
@@ -283,6 +347,67 @@ public class TableService {
         }
     }
 
+    /**
+     * The table keeps the deck of its first hand and only shuffles it again for every further hand, when replaying
+     * every hand is shuffled with its seed
+     */
+    private void prepareDeck() {
+        boolean firstHand = deck == null;
+        if (firstHand) {
+            deck = deckSupplier.get();
+        }
+        if (handSeeds != null) {
+            deck.shuffle(handSeeds.getAsLong());
+        } else if (!firstHand) {
+            deck.shuffle();
+        }
+    }
+
+    /**
+     * Replaces the snapshot once a change is complete, rejected actions change nothing and publish nothing
+     */
+    private void publish() {
+        TableSnapshot published = new TableSnapshot(++version, this);
+        history.set(indexOf(version), published);
+        snapshot = published;
+    }
+
+    private static int indexOf(long version) {
+        return (int) Math.floorMod(version, (long) HISTORY_SIZE);
+    }
+
+    /**
+     * Adds the card to the community cards and to the hand state of every player
+     */
+    private void dealCommunityCard() {
+        Card card = deck.draw();
+        communityCardList.add(card);
+        for (HandState handState : handStates.values()) {
+            handState.addCommunityCard(card);
+        }
+    }
+
+    /**
+     * The hand states already contain all community cards, so only their strengths are compared.
+     * On a draw the first of the tied players wins. Players who joined during the hand are inactive and have no
+     * hand state.
+     */
+    private Player findShowdownWinner() {
+        Player winner = null;
+        int bestStrength = Integer.MIN_VALUE;
+        for (Player player : playerList) {
+            if (!player.isActive()) {
+                continue;
+            }
+            int strength = handStates.get(player.getId()).getStrength();
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                winner = player;
+            }
+        }
+        return winner;
+    }
+
     /**
      * Derive Next player
      */
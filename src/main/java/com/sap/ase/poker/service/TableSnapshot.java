@@ -0,0 +1,147 @@
+package com.sap.ase.poker.service;
+
+import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.Card;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable copy of the state of a table after one change. The table publishes a new snapshot with the next version
+ * after every change, so it can be read by any thread without going through the {@link TableMailbox} and never shows
+ * an action half applied.
+ */
+public final class TableSnapshot {
+
+    private final long version;
+    private final GameState state;
+    private final List<Seat> players;
+    private final Seat currentPlayer;
+    private final List<Card> communityCards;
+    private final Map<String, Integer> bets;
+    private final int pot;
+    private final Seat winner;
+    private final List<Card> winnerHand;
+
+    /**
+     * Copies the state of the table, only to be called by the thread owning the table
+     */
+    public TableSnapshot(long version, TableService table) {
+        this.version = version;
+        this.state = table.getState();
+        List<Seat> seats = new ArrayList<>();
+        for (Player player : table.getPlayers()) {
+            seats.add(new Seat(player));
+        }
+        this.players = Collections.unmodifiableList(seats);
+        this.currentPlayer = table.getCurrentPlayer().map(Seat::new).orElse(null);
+        this.communityCards = copyOf(table.getCommunityCards());
+        this.bets = Collections.unmodifiableMap(new HashMap<>(table.getBets()));
+        this.pot = table.getPot();
+        this.winner = table.getWinner().map(Seat::new).orElse(null);
+        this.winnerHand = copyOf(table.getWinnerHand());
+    }
+
+    /**
+     * Increases with every change of the table, a snapshot with the same version has the same content
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public List<Seat> getPlayers() {
+        return players;
+    }
+
+    public List<Card> getPlayerCards(String playerId) {
+        for (Seat player : players) {
+            if (player.getId().equals(playerId)) {
+                return player.getHandCards();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    public Optional<Seat> getCurrentPlayer() {
+        return Optional.ofNullable(currentPlayer);
+    }
+
+    public List<Card> getCommunityCards() {
+        return communityCards;
+    }
+
+    public Map<String, Integer> getBets() {
+        return bets;
+    }
+
+    public int getPot() {
+        return pot;
+    }
+
+    public Optional<Seat> getWinner() {
+        return Optional.ofNullable(winner);
+    }
+
+    public List<Card> getWinnerHand() {
+        return winnerHand;
+    }
+
+    private static List<Card> copyOf(List<Card> cards) {
+        return Collections.unmodifiableList(new ArrayList<>(cards));
+    }
+
+    /**
+     * A player as it was at the time of the snapshot
+     */
+    public static final class Seat {
+
+        private final String id;
+        private final String name;
+        private final int cash;
+        private final int bet;
+        private final boolean active;
+        private final List<Card> handCards;
+
+        Seat(Player player) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.cash = player.getCash();
+            this.bet = player.getBet();
+            this.active = player.isActive();
+            this.handCards = copyOf(player.getHandCards());
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCash() {
+            return cash;
+        }
+
+        public int getBet() {
+            return bet;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<Card> getHandCards() {
+            return handCards;
+        }
+    }
+}
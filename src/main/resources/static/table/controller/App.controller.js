@@ -20,8 +20,17 @@ sap.ui.define([
       await this._updateModel()
       // join table if not already joined
       await this._joinTable()
-      // start polling for table updates
-      setInterval(() => this._updateModel(), 1000)
+      // wait for table updates, the server answers as soon as the table has changed
+      this._watchTable()
+    },
+
+    async _watchTable() {
+      for (;;) {
+        if (!await this._updateModel(() => table.watch())) {
+          // back off after a failure instead of retrying right away
+          await new Promise(resolve => setTimeout(resolve, 1000))
+        }
+      }
     },
 
     _getPlayer() {
@@ -36,10 +45,10 @@ sap.ui.define([
       return player
     },
 
-    async _updateModel() {
+    async _updateModel(load = () => table.fetch()) {
       try {
         const player = this._getPlayer()
-        const { state, currentPlayer, players, bets, pot, communityCards, playerCards, winner, winnerHand } = await table.fetch()
+        const { state, currentPlayer, players, bets, pot, communityCards, playerCards, winner, winnerHand } = await load()
         const view = this.getView()
         const model = view.getModel()
         model.setProperty('/', Object.assign({}, model.getProperty('/'), {
@@ -64,9 +73,11 @@ sap.ui.define([
             enabled: currentPlayer?.id === player.id
           }
         }))
+        return true
       } catch ({ message, stack }) {
         console.error(stack)
         MessageBox.error(message)
+        return false
       }
     },
 
@@ -1,9 +1,13 @@
 sap.ui.define([], () => {
   const API_PATH = '/api/v1'
 
+  // last table and its entity tag, the server answers 304 while the table has not changed
+  let table = null
+  let eTag = null
+
   const _fetch = async (path, options) => {
     const response = await fetch(path, options)
-    if (!response.ok) {
+    if (!response.ok && response.status !== 304) {
       const message = await response.text()
       throw new Error(message)
     }
@@ -12,8 +16,21 @@ sap.ui.define([], () => {
 
   return {
     async fetch() {
-      const response = await _fetch(API_PATH)
-      const table = await response.json()
+      const response = await _fetch(API_PATH, {
+        headers: eTag ? { 'If-None-Match': eTag } : {}
+      })
+      if (response.status !== 304) {
+        table = await response.json()
+        eTag = response.headers.get('ETag')
+      }
+      return table
+    },
+
+    // long poll, answered as soon as the table has moved past the version of the last table
+    async watch() {
+      const response = await _fetch(`${API_PATH}?sinceVersion=${table ? table.version : 0}`)
+      table = await response.json()
+      eTag = response.headers.get('ETag')
       return table
     },
 
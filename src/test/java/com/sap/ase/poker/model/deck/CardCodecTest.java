@@ -0,0 +1,78 @@
+package com.sap.ase.poker.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CardCodecTest {
+
+    private final List<Card> pokerCards = new PokerCardsSupplier().get();
+
+    @Test
+    void indexOf_shouldMapEveryCardToDistinctIndexBelow52() {
+        Set<Integer> indexes = new HashSet<>();
+        for (Card card : pokerCards) {
+            indexes.add(CardCodec.indexOf(card));
+        }
+
+        assertThat(indexes).hasSize(CardCodec.CARD_COUNT);
+        assertThat(indexes).allMatch(index -> index >= 0 && index < CardCodec.CARD_COUNT);
+    }
+
+    @Test
+    void cardOf_shouldBeInverseOfIndexOf() {
+        for (Card card : pokerCards) {
+            assertThat(CardCodec.cardOf(CardCodec.indexOf(card))).isEqualTo(card);
+        }
+    }
+
+    @Test
+    void cardOf_shouldReturnSharedInstances() {
+        assertThat(CardCodec.cardOf(17)).isSameAs(CardCodec.cardOf(17));
+    }
+
+    @Test
+    void maskOf_shouldSetOneBitPerCard() {
+        List<Card> cards = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.TWO, Suit.DIAMONDS));
+
+        long mask = CardCodec.maskOf(cards);
+
+        assertThat(Long.bitCount(mask)).isEqualTo(2);
+        assertThat(mask & CardCodec.maskOf(new Card(Kind.ACE, Suit.SPADES))).isNotZero();
+        assertThat(CardCodec.maskOf(pokerCards)).isEqualTo(CardCodec.FULL_DECK_MASK);
+    }
+
+    @Test
+    void maskOf_cardIndexes_shouldEqualMaskOfCards() {
+        List<Card> cards = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.TEN, Suit.CLUBS));
+        int[] cardIndexes = {CardCodec.indexOf(cards.get(0)), CardCodec.indexOf(cards.get(1))};
+
+        assertThat(CardCodec.maskOf(cardIndexes)).isEqualTo(CardCodec.maskOf(cards));
+    }
+
+    @Test
+    void cardsOf_shouldDecodeMask() {
+        List<Card> cards = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.TWO, Suit.DIAMONDS));
+
+        assertThat(CardCodec.cardsOf(CardCodec.maskOf(cards))).containsExactlyInAnyOrderElementsOf(cards);
+        assertThat(CardCodec.cardsOf(0L)).isEmpty();
+    }
+
+    @Test
+    void kindsOfSuit_shouldReturnKindsOfThatSuitOnly() {
+        List<Card> cards = Arrays.asList(
+                new Card(Kind.TWO, Suit.HEARTS),
+                new Card(Kind.ACE, Suit.HEARTS),
+                new Card(Kind.KING, Suit.CLUBS));
+        long mask = CardCodec.maskOf(cards);
+
+        assertThat(CardCodec.kindsOfSuit(mask, Suit.HEARTS.ordinal())).isEqualTo(1 | 1 << Kind.ACE.ordinal());
+        assertThat(CardCodec.kindsOfSuit(mask, Suit.CLUBS.ordinal())).isEqualTo(1 << Kind.KING.ordinal());
+        assertThat(CardCodec.kindsOfSuit(mask, Suit.DIAMONDS.ordinal())).isZero();
+    }
+}
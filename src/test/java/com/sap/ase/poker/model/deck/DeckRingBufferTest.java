@@ -0,0 +1,118 @@
+package com.sap.ase.poker.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeckRingBufferTest {
+
+    @Test
+    void poll_shouldReturnDecksInOrderOfOffer() {
+        DeckRingBuffer underTest = new DeckRingBuffer(4);
+        List<Deck> decks = decks(3);
+
+        decks.forEach(underTest::offer);
+
+        assertThat(underTest.size()).isEqualTo(3);
+        assertThat(underTest.poll()).isSameAs(decks.get(0));
+        assertThat(underTest.poll()).isSameAs(decks.get(1));
+        assertThat(underTest.poll()).isSameAs(decks.get(2));
+        assertThat(underTest.poll()).isNull();
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    void offer_whenFull_shouldRejectDeck() {
+        DeckRingBuffer underTest = new DeckRingBuffer(3);
+        List<Deck> decks = decks(5);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(underTest.offer(decks.get(i))).isTrue();
+        }
+
+        assertThat(underTest.getCapacity()).isEqualTo(4);
+        assertThat(underTest.offer(decks.get(4))).isFalse();
+        assertThat(underTest.poll()).isSameAs(decks.get(0));
+        assertThat(underTest.offer(decks.get(4))).isTrue();
+    }
+
+    @Test
+    void constructor_shouldKeepAtLeastTwoSlots() {
+        DeckRingBuffer underTest = new DeckRingBuffer(1);
+        List<Deck> decks = decks(3);
+
+        assertThat(underTest.offer(decks.get(0))).isTrue();
+        assertThat(underTest.offer(decks.get(1))).isTrue();
+        assertThat(underTest.offer(decks.get(2))).isFalse();
+        assertThat(underTest.getCapacity()).isEqualTo(2);
+        assertThatThrownBy(() -> new DeckRingBuffer(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DeckRingBuffer((1 << 30) + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void poll_withPositionTakenByOtherConsumer_shouldNotTakeDeck() {
+        DeckRingBuffer underTest = new DeckRingBuffer(2);
+        List<Deck> decks = decks(3);
+        underTest.offer(decks.get(0));
+        underTest.offer(decks.get(1));
+
+        assertThat(underTest.poll(0)).isSameAs(decks.get(0));
+        assertThat(underTest.poll(0)).isNull();
+        underTest.offer(decks.get(2));
+        assertThat(underTest.poll(2)).isNull();
+
+        assertThat(underTest.poll()).isSameAs(decks.get(1));
+        assertThat(underTest.poll()).isSameAs(decks.get(2));
+    }
+
+    @Test
+    void concurrentConsumers_shouldTakeEveryDeckOnce() throws InterruptedException {
+        DeckRingBuffer underTest = new DeckRingBuffer(8);
+        List<Deck> decks = decks(10_000);
+        Set<Deck> taken = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch consumed = new CountDownLatch(decks.size());
+
+        executor.execute(() -> decks.forEach(deck -> {
+            while (!underTest.offer(deck)) {
+                Thread.yield();
+            }
+        }));
+        for (int consumer = 0; consumer < 3; consumer++) {
+            executor.execute(() -> {
+                while (consumed.getCount() > 0) {
+                    Deck deck = underTest.poll();
+                    if (deck == null) {
+                        Thread.yield();
+                    } else {
+                        taken.add(deck);
+                        consumed.countDown();
+                    }
+                }
+            });
+        }
+
+        assertThat(consumed.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(taken).hasSize(decks.size());
+        assertThat(underTest.poll()).isNull();
+    }
+
+    private static List<Deck> decks(int amount) {
+        return IntStream.range(0, amount)
+                .mapToObj(i -> new Deck(Collections.emptyList(), cards -> cards))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.sap.ase.poker.model.deck;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeckSuppliersTest {
+
+    @SuppressWarnings("unchecked")
+    private final Supplier<Deck> defaultDecks = Mockito.mock(Supplier.class);
+
+    private final DeckSuppliers underTest =
+            new DeckSuppliers(new PokerCardsSupplier(), defaultDecks, DeckSuppliers.SECURE);
+
+    @Test
+    void get_withDefaultShuffler_returnsReadyDecks() {
+        assertThat(underTest.get(null)).isSameAs(defaultDecks);
+        assertThat(underTest.get(DeckSuppliers.SECURE)).isSameAs(defaultDecks);
+    }
+
+    @Test
+    void get_withOtherShuffler_returnsSharedSupplierOfShuffledDecks() {
+        Supplier<Deck> decks = underTest.get(DeckSuppliers.SIMULATION);
+
+        Deck deck = decks.get();
+
+        assertThat(underTest.get(DeckSuppliers.SIMULATION)).isSameAs(decks);
+        assertThat(deck.getCards()).hasSize(52);
+        assertThat(deck.getSeed()).isPresent();
+        Mockito.verifyNoInteractions(defaultDecks);
+    }
+
+    @Test
+    void createShuffler_returnsShufflerByName() {
+        assertThat(DeckSuppliers.createShuffler(DeckSuppliers.SECURE)).isInstanceOf(SecureCardShuffler.class);
+        assertThat(DeckSuppliers.createShuffler(DeckSuppliers.SIMULATION)).isInstanceOf(SimulationCardShuffler.class);
+        assertThat(DeckSuppliers.createShuffler(DeckSuppliers.RANDOM)).isInstanceOf(RandomCardShuffler.class);
+        assertThatThrownBy(() -> DeckSuppliers.createShuffler("dealer")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -4,7 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -62,4 +67,128 @@ class DeckTest {
         deck.shuffle();
         assertThat(deck.getCards().size()).isEqualTo(EXPECTED_DECK_SIZE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void withSeededShuffler_shuffle_shouldBeSeededByShuffler() {
+        SeededCardShuffler seededShuffler = Mockito.mock(SeededCardShuffler.class);
+        Mockito.when(seededShuffler.nextSeed()).thenReturn(42L);
+        Deck seededDeck = new Deck(new PokerCardsSupplier().get(), shuffler);
+        seededDeck.shuffle(42L);
+        deck = new Deck(new PokerCardsSupplier().get(), seededShuffler);
+
+        deck.shuffle();
+
+        assertThat(deck.getSeed()).hasValue(42L);
+        assertThat(deck.getCards()).isEqualTo(seededDeck.getCards());
+        Mockito.verify(seededShuffler, Mockito.never()).nextIndex(Mockito.anyInt(), Mockito.anyInt());
+        Mockito.verify(seededShuffler, Mockito.never()).shuffle(Mockito.anyList());
+    }
+
+    @Test
+    void withIncrementalShuffler_shuffle_shouldPickEveryDealtCardByShuffler() {
+        IncrementalCardShuffler incrementalShuffler = Mockito.mock(IncrementalCardShuffler.class);
+        Mockito.when(incrementalShuffler.nextIndex(Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(invocation -> invocation.<Integer>getArgument(1) - 1);
+        deck = new Deck(new PokerCardsSupplier().get(), incrementalShuffler);
+        deck.shuffle(42L);
+
+        deck.shuffle();
+        List<Card> dealt = drawCards(2);
+
+        List<Card> supply = new PokerCardsSupplier().get();
+        assertThat(dealt).containsExactly(supply.get(51), supply.get(0));
+        assertThat(deck.getSeed()).isEmpty();
+        Mockito.verify(incrementalShuffler).nextIndex(0, 52);
+        Mockito.verify(incrementalShuffler).nextIndex(1, 52);
+        Mockito.verify(incrementalShuffler, Mockito.never()).shuffle(Mockito.anyList());
+    }
+
+    @Test
+    void shuffle_withSameSeed_shouldDealSameCardsIndependentOfPreviousHands() {
+        deck = new Deck(new PokerCardsSupplier().get(), new RandomCardShuffler());
+        deck.shuffle(42L);
+        List<Card> firstHand = drawCards(9);
+        deck.shuffle();
+        drawCards(5);
+
+        deck.shuffle(42L);
+
+        assertThat(drawCards(9)).isEqualTo(firstHand).containsExactly(
+                new Card(Kind.TEN, Suit.HEARTS), new Card(Kind.EIGHT, Suit.SPADES), new Card(Kind.NINE, Suit.CLUBS),
+                new Card(Kind.SEVEN, Suit.SPADES), new Card(Kind.FOUR, Suit.DIAMONDS), new Card(Kind.TWO, Suit.SPADES),
+                new Card(Kind.SIX, Suit.CLUBS), new Card(Kind.QUEEN, Suit.CLUBS), new Card(Kind.NINE, Suit.SPADES));
+        deck.shuffle(43L);
+        assertThat(drawCards(9)).isNotEqualTo(firstHand);
+    }
+
+    @Test
+    void getSeed_shouldOnlyBePresentAfterSeededShuffle() {
+        deck = new Deck(new PokerCardsSupplier().get(), ArrayList::new);
+        assertThat(deck.getSeed()).isEmpty();
+
+        deck.shuffle(7L);
+        assertThat(deck.getSeed()).hasValue(7L);
+
+        deck.shuffle();
+        assertThat(deck.getSeed()).isEmpty();
+        assertThat(deck.getCards()).isEqualTo(new PokerCardsSupplier().get());
+    }
+
+    @Test
+    void withRandomShuffler_shouldDealEveryCardOnce() {
+        deck = new Deck(new PokerCardsSupplier().get(), new RandomCardShuffler());
+        deck.draw();
+        deck.shuffle();
+
+        Set<Card> dealt = new HashSet<>();
+        IntStream.range(0, EXPECTED_DECK_SIZE).forEach(i -> dealt.add(deck.draw()));
+
+        assertThat(dealt).containsExactlyInAnyOrderElementsOf(new PokerCardsSupplier().get());
+    }
+
+    @Test
+    void withRandomShuffler_getCards_shouldFixOrderOfRemainingCards() {
+        deck = new Deck(new PokerCardsSupplier().get(), new RandomCardShuffler());
+        deck.shuffle();
+        deck.draw();
+
+        List<Card> remaining = deck.getCards();
+
+        assertThat(remaining).hasSize(EXPECTED_DECK_SIZE - 1);
+        for (Card card : remaining) {
+            assertThat(deck.draw()).isEqualTo(card);
+        }
+    }
+
+    @Test
+    void withRandomShuffler_firstCard_shouldBeUniformlyDistributed() {
+        deck = new Deck(new PokerCardsSupplier().get(), new RandomCardShuffler());
+        Map<Card, Integer> firstCards = new HashMap<>();
+
+        for (int i = 0; i < EXPECTED_DECK_SIZE * 1_000; i++) {
+            deck.shuffle();
+            firstCards.merge(deck.draw(), 1, Integer::sum);
+        }
+
+        assertThat(firstCards).hasSize(EXPECTED_DECK_SIZE);
+        assertThat(firstCards.values()).allMatch(count -> count > 800 && count < 1_200);
+    }
+
+    @Test
+    void drawIndex_shouldDrawNextCardAsIndex() {
+        Card nextCard = deck.getCards().get(0);
+
+        int cardIndex = deck.drawIndex();
+
+        assertThat(CardCodec.cardOf(cardIndex)).isEqualTo(nextCard);
+        assertThat(deck.getCards()).hasSize(EXPECTED_DECK_SIZE - 1);
+    }
+
+    private List<Card> drawCards(int amount) {
+        List<Card> drawn = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            drawn.add(deck.draw());
+        }
+        return drawn;
+    }
+}
@@ -0,0 +1,211 @@
+package com.sap.ase.poker.model.deck;
+
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HandIndexerTest {
+
+    private static final int[] ROUND_ENDS = {2, 5, 6, 7};
+
+    private final HandIndexer underTest = HandIndexer.HOLDEM;
+
+    @Test
+    void size_shouldEqualAmountOfSuitIsomorphicHands() {
+        assertThat(underTest.getRounds()).isEqualTo(4);
+        assertThat(underTest.size(0)).isEqualTo(169);
+        assertThat(underTest.size(1)).isEqualTo(1_286_792);
+        assertThat(underTest.size(2)).isEqualTo(55_190_538);
+        assertThat(underTest.size(3)).isEqualTo(2_428_287_420L);
+    }
+
+    @Test
+    void size_withBoardAsOneRound_shouldEqualAmountOfSuitIsomorphicHandsPerStreet() {
+        assertThat(HandIndexer.ofStreet(0).size(0)).isEqualTo(169);
+        assertThat(HandIndexer.ofStreet(3).size(1)).isEqualTo(1_286_792);
+        assertThat(HandIndexer.ofStreet(4).size(1)).isEqualTo(13_960_050);
+        assertThat(HandIndexer.ofStreet(5).size(1)).isEqualTo(123_156_254);
+        assertThatThrownBy(() -> HandIndexer.ofStreet(1)).isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void index_withBoardAsOneRound_shouldNotDependOnOrderOfBoard() {
+        List<Card> hand = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.HEARTS));
+        List<Card> board = Arrays.asList(new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.NINE, Suit.HEARTS), new Card(Kind.NINE, Suit.SPADES));
+        List<Card> reversedBoard = Arrays.asList(board.get(3), board.get(2), board.get(1), board.get(0));
+
+        assertThat(HandIndexer.TURN.index(hand, reversedBoard)).isEqualTo(HandIndexer.TURN.index(hand, board));
+        assertThat(HandIndexer.HOLDEM.index(hand, reversedBoard)).isNotEqualTo(HandIndexer.HOLDEM.index(hand, board));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5})
+    void unindex_withBoardAsOneRound_shouldBeInverseOfIndex(int amountOfCommunityCards) {
+        HandIndexer indexer = HandIndexer.ofStreet(amountOfCommunityCards);
+        SplittableRandom random = new SplittableRandom(amountOfCommunityCards);
+        for (int i = 0; i < 20_000; i++) {
+            long index = random.nextLong(indexer.size(1));
+
+            assertThat(indexer.index(indexer.unindex(1, index))).isEqualTo(index);
+        }
+    }
+
+    @Test
+    void index_everyStartingHand_shouldCoverAllPreflopIndexes() {
+        BitSet indexes = new BitSet();
+        for (int first = 0; first < CardCodec.CARD_COUNT; first++) {
+            for (int second = first + 1; second < CardCodec.CARD_COUNT; second++) {
+                indexes.set((int) underTest.index(new int[]{first, second}));
+            }
+        }
+
+        assertThat(indexes.cardinality()).isEqualTo(169);
+        assertThat(indexes.length()).isEqualTo(169);
+    }
+
+    @Test
+    void unindex_everyFlopIndex_shouldBeInverseOfIndex() {
+        for (long index = 0; index < underTest.size(1); index++) {
+            assertThat(underTest.index(underTest.unindex(1, index))).isEqualTo(index);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void unindex_randomIndexes_shouldBeInverseOfIndex(int round) {
+        SplittableRandom random = new SplittableRandom(round);
+        for (int i = 0; i < 20_000; i++) {
+            long index = random.nextLong(underTest.size(round));
+
+            int[] cards = underTest.unindex(round, index);
+
+            assertThat(cards).hasSize(ROUND_ENDS[round]);
+            assertThat(Long.bitCount(CardCodec.maskOf(cards))).isEqualTo(ROUND_ENDS[round]);
+            assertThat(underTest.index(cards)).isEqualTo(index);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void index_shouldNotChangeWhenSuitsArePermutedOrCardsOfRoundReordered(int round) {
+        SplittableRandom random = new SplittableRandom(42 + round);
+        for (int i = 0; i < 2_000; i++) {
+            int[] cards = dealCards(ROUND_ENDS[round], random);
+            int[] suitPermutation = randomSuitPermutation(random);
+            int[] permuted = new int[cards.length];
+            for (int card = 0; card < cards.length; card++) {
+                int suit = cards[card] / CardCodec.RANK_COUNT;
+                permuted[card] = suitPermutation[suit] * CardCodec.RANK_COUNT + cards[card] % CardCodec.RANK_COUNT;
+            }
+            swap(permuted, 0, 1);
+
+            assertThat(underTest.index(permuted)).isEqualTo(underTest.index(cards));
+        }
+    }
+
+    @Test
+    void index_shouldDistinguishSuitedFromOffsuitAndHandFromBoard() {
+        List<Card> aceKingSuited = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.SPADES));
+        List<Card> aceKingOffsuit = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.HEARTS));
+        List<Card> board = Arrays.asList(new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.NINE, Suit.HEARTS));
+
+        assertThat(underTest.index(aceKingSuited, Collections.emptyList()))
+                .isNotEqualTo(underTest.index(aceKingOffsuit, Collections.emptyList()));
+        assertThat(underTest.index(aceKingOffsuit, board))
+                .isNotEqualTo(underTest.index(Arrays.asList(board.get(0), board.get(1)),
+                        Arrays.asList(aceKingOffsuit.get(0), aceKingOffsuit.get(1), board.get(2))));
+    }
+
+    @Test
+    void index_cards_shouldEqualIndexOfCardIndexes() {
+        List<Card> hand = Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.HEARTS));
+        List<Card> board = Arrays.asList(new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.NINE, Suit.HEARTS), new Card(Kind.NINE, Suit.SPADES));
+        int[] cards = new int[6];
+        for (int i = 0; i < 2; i++) {
+            cards[i] = CardCodec.indexOf(hand.get(i));
+        }
+        for (int i = 0; i < 4; i++) {
+            cards[2 + i] = CardCodec.indexOf(board.get(i));
+        }
+
+        assertThat(underTest.index(hand, board)).isEqualTo(underTest.index(cards));
+    }
+
+    @Test
+    void withSingleRoundOfAllCards_shouldHaveOneIndex() {
+        HandIndexer wholeDeck = new HandIndexer(CardCodec.CARD_COUNT);
+        int[] deck = new int[CardCodec.CARD_COUNT];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = i;
+        }
+
+        assertThat(wholeDeck.size(0)).isEqualTo(1);
+        assertThat(wholeDeck.index(deck)).isZero();
+        assertThat(wholeDeck.unindex(0, 0)).containsExactlyInAnyOrder(deck);
+    }
+
+    @Test
+    void index_withAmountOfCardsNotCompletingRound_shouldThrow() {
+        assertThatThrownBy(() -> underTest.index(new int[]{1, 2, 3})).isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void index_withDuplicateCard_shouldThrow() {
+        assertThatThrownBy(() -> underTest.index(new int[]{1, 1})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unindex_withIndexOutOfRange_shouldThrow() {
+        assertThatThrownBy(() -> underTest.unindex(0, 169)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> underTest.unindex(0, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_withUnsupportedRounds_shouldThrow() {
+        assertThatThrownBy(HandIndexer::new).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HandIndexer(1, 1, 1, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HandIndexer(2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HandIndexer(50, 3)).isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    private static int[] dealCards(int amount, SplittableRandom random) {
+        int[] cards = new int[amount];
+        long dealt = 0;
+        for (int i = 0; i < amount; i++) {
+            int card;
+            do {
+                card = random.nextInt(CardCodec.CARD_COUNT);
+            } while ((dealt & 1L << card) != 0);
+            dealt |= 1L << card;
+            cards[i] = card;
+        }
+        return cards;
+    }
+
+    private static int[] randomSuitPermutation(SplittableRandom random) {
+        int[] suits = {0, 1, 2, 3};
+        for (int i = suits.length - 1; i > 0; i--) {
+            swap(suits, i, random.nextInt(i + 1));
+        }
+        return suits;
+    }
+
+    private static void swap(int[] values, int first, int second) {
+        int value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+}
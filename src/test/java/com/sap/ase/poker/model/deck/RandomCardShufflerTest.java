@@ -0,0 +1,29 @@
+package com.sap.ase.poker.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomCardShufflerTest {
+
+    private final RandomCardShuffler underTest = new RandomCardShuffler();
+
+    @Test
+    void shuffle_shouldReturnSameCardsWithoutChangingInput() {
+        List<Card> cards = new PokerCardsSupplier().get();
+
+        List<Card> shuffled = underTest.shuffle(cards);
+
+        assertThat(shuffled).containsExactlyInAnyOrderElementsOf(cards);
+        assertThat(cards).isEqualTo(new PokerCardsSupplier().get());
+    }
+
+    @Test
+    void nextIndex_shouldStayWithinBounds() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(underTest.nextIndex(50, 52)).isBetween(50, 51);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.sap.ase.poker.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SecureCardShufflerTest {
+
+    private final FixedBytesRandom secureRandom = new FixedBytesRandom();
+
+    @Test
+    void nextIndex_shouldFetchRandomBytesOncePerBufferInBackground() {
+        List<Runnable> refills = new ArrayList<>();
+        // the first buffer is filled right away, the later ones when the test runs the refill
+        Executor refiller = refill -> {
+            if (secureRandom.fetches == 0) {
+                refill.run();
+            } else {
+                refills.add(refill);
+            }
+        };
+        SecureCardShuffler underTest = new SecureCardShuffler(secureRandom, 2 * Integer.BYTES, refiller);
+        secureRandom.bytes = new byte[]{0, 0, 0, 4, 0, 0, 0, 7};
+
+        assertThat(underTest.nextIndex(0, 4)).isEqualTo(2);
+        assertThat(underTest.nextIndex(10, 14)).isEqualTo(13);
+        assertThat(secureRandom.fetches).isEqualTo(1);
+        assertThat(refills).hasSize(1);
+
+        refills.remove(0).run();
+        assertThat(secureRandom.fetches).isEqualTo(2);
+        assertThat(underTest.nextIndex(0, 4)).isEqualTo(2);
+        assertThat(secureRandom.fetches).isEqualTo(2);
+        assertThat(refills).hasSize(1);
+    }
+
+    @Test
+    void nextIndex_shouldRejectValuesOfIncompleteLastRange() {
+        SecureCardShuffler underTest = new SecureCardShuffler(secureRandom, 2 * Integer.BYTES, Runnable::run);
+        secureRandom.bytes = new byte[]{-1, -1, -1, -1, 0, 0, 0, 8};
+
+        assertThat(underTest.nextIndex(0, 3)).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_withBufferNotHoldingWholeInts_shouldThrow() {
+        assertThatThrownBy(() -> new SecureCardShuffler(secureRandom, 0, Runnable::run)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SecureCardShuffler(secureRandom, 6, Runnable::run)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shuffle_shouldReturnSameCardsWithoutChangingInput() {
+        List<Card> cards = new PokerCardsSupplier().get();
+
+        List<Card> shuffled = new SecureCardShuffler().shuffle(cards);
+
+        assertThat(shuffled).containsExactlyInAnyOrderElementsOf(cards).isNotEqualTo(cards);
+        assertThat(cards).isEqualTo(new PokerCardsSupplier().get());
+    }
+
+    @Test
+    void withSecureRandom_nextIndex_shouldBeUniformlyDistributedWithinBounds() {
+        SecureCardShuffler underTest = new SecureCardShuffler();
+        int[] counts = new int[10];
+        for (int i = 0; i < 10_000; i++) {
+            counts[underTest.nextIndex(10, 20) - 10]++;
+        }
+
+        assertThat(Arrays.stream(counts)).allMatch(count -> count > 800 && count < 1_200);
+    }
+
+    private static class FixedBytesRandom extends SecureRandom {
+        private byte[] bytes;
+        private int fetches;
+
+        @Override
+        public void nextBytes(byte[] buffer) {
+            System.arraycopy(bytes, 0, buffer, 0, buffer.length);
+            fetches++;
+        }
+    }
+}
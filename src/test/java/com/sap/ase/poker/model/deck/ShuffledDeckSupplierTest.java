@@ -1,5 +1,6 @@
 package com.sap.ase.poker.model.deck;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -7,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
@@ -14,6 +16,7 @@ import static org.mockito.Mockito.times;
 @ExtendWith(MockitoExtension.class)
 class ShuffledDeckSupplierTest {
     public static final Card CARD = new Card(Kind.SEVEN, Suit.HEARTS);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
     @Mock
     private PokerCardsSupplier mockCardSupplier;
     @Mock
@@ -21,9 +24,12 @@ class ShuffledDeckSupplierTest {
     @Captor
     private ArgumentCaptor<List<Card>> captor;
 
-    @InjectMocks
     private ShuffledDeckSupplier underTest;
 
+    @BeforeEach
+    void setUp() {
+        underTest = new ShuffledDeckSupplier(mockCardSupplier, mockCardShuffler);
+    }
 
     @Test
     void get_shufflesDeck() {
@@ -33,5 +39,55 @@ class ShuffledDeckSupplierTest {
 
         Mockito.verify(mockCardShuffler, times(1)).shuffle(captor.capture());
         assertThat(captor.getValue()).containsOnly(CARD);
+        assertThat(underTest.getFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void refill_shouldFillBufferUpToMinimum() {
+        underTest = new ShuffledDeckSupplier(new PokerCardsSupplier(), new SimulationCardShuffler());
+
+        underTest.refill();
+
+        assertThat(underTest.getFillLevel()).isEqualTo(ShuffledDeckSupplier.MIN_FILL);
+        assertThat(underTest.refill(System.nanoTime() + SECOND)).isZero();
+        assertThat(underTest.getTargetFill()).isEqualTo(ShuffledDeckSupplier.MIN_FILL);
+        assertThat(underTest.getCapacity()).isEqualTo(ShuffledDeckSupplier.DEFAULT_CAPACITY);
+    }
+
+    @Test
+    void get_withFilledBuffer_shouldTakeReadyDeckWithoutShuffling() {
+        underTest = new ShuffledDeckSupplier(new PokerCardsSupplier(), new SimulationCardShuffler());
+        underTest.refill(SECOND);
+
+        Deck deck = underTest.get();
+
+        assertThat(deck.getCards()).hasSize(52);
+        assertThat(deck.getSeed()).isPresent();
+        assertThat(underTest.getFillLevel()).isEqualTo(ShuffledDeckSupplier.MIN_FILL - 1);
+        assertThat(underTest.getFallbacks()).isZero();
+    }
+
+    @Test
+    void refill_shouldFollowRateOfTakenDecksWithinCapacity() {
+        underTest = new ShuffledDeckSupplier(new PokerCardsSupplier(), new SimulationCardShuffler(), 64);
+        underTest.refill(SECOND);
+        for (int i = 0; i < 100; i++) {
+            underTest.get();
+        }
+
+        underTest.refill(2 * SECOND);
+
+        assertThat(underTest.getDecksPerSecond()).isEqualTo(100 * ShuffledDeckSupplier.RATE_SMOOTHING);
+        assertThat(underTest.getTargetFill()).isEqualTo(20);
+        assertThat(underTest.getFillLevel()).isEqualTo(20);
+        assertThat(underTest.getFallbacks()).isEqualTo(100 - ShuffledDeckSupplier.MIN_FILL);
+
+        for (int i = 0; i < 10_000; i++) {
+            underTest.get();
+        }
+        underTest.refill(3 * SECOND);
+
+        assertThat(underTest.getTargetFill()).isEqualTo(64);
+        assertThat(underTest.getFillLevel()).isEqualTo(64);
     }
-}
\ No newline at end of file
+}
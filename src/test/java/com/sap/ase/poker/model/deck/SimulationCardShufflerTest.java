@@ -0,0 +1,33 @@
+package com.sap.ase.poker.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationCardShufflerTest {
+
+    private final SimulationCardShuffler underTest = new SimulationCardShuffler();
+
+    @Test
+    void shuffle_shouldReturnSameCardsWithoutChangingInput() {
+        List<Card> cards = new PokerCardsSupplier().get();
+
+        List<Card> shuffled = underTest.shuffle(cards);
+
+        assertThat(shuffled).containsExactlyInAnyOrderElementsOf(cards).isNotEqualTo(cards);
+        assertThat(cards).isEqualTo(new PokerCardsSupplier().get());
+    }
+
+    @Test
+    void nextIndex_shouldBeUniformlyDistributedWithinBounds() {
+        int[] counts = new int[10];
+        for (int i = 0; i < 10_000; i++) {
+            counts[underTest.nextIndex(10, 20) - 10]++;
+        }
+
+        assertThat(Arrays.stream(counts)).allMatch(count -> count > 800 && count < 1_200);
+    }
+}
@@ -0,0 +1,229 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.rules.HandRules;
+import com.sap.ase.poker.model.rules.InvalidAmountOfCardsException;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class EquityCalculatorTest {
+
+    private static final long ACES = mask(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS));
+    private static final long KINGS = mask(new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS));
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final EquityCalculator underTest = new EquityCalculator(new WinnerRules(new HandRules()), pool);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void sample_acesAgainstKingsPreFlop_shouldBeAboutEightyTwoPercent() {
+        Equity equity = underTest.sample(new long[]{ACES, KINGS}, 0, 50_000, Duration.ZERO, new SplittableRandom(1));
+
+        assertThat(equity.getSamples()).isEqualTo(50_000);
+        assertThat(equity.getAmountOfPlayers()).isEqualTo(2);
+        assertThat(equity.getEquityPercentage(0)).isCloseTo(82.0, within(1.5));
+        assertThat(equity.getEquityPercentage(0) + equity.getEquityPercentage(1)).isCloseTo(100.0, within(1e-9));
+        assertThat(equity.getWins(0) + equity.getWins(1) + equity.getTies(0)).isEqualTo(50_000);
+    }
+
+    @Test
+    void sample_withSameSeed_shouldReturnSameResult() {
+        Equity first = underTest.sample(new long[]{ACES, KINGS}, 0, 20_000, Duration.ZERO, new SplittableRandom(7));
+        Equity second = underTest.sample(new long[]{ACES, KINGS}, 0, 20_000, Duration.ZERO, new SplittableRandom(7));
+
+        assertThat(first.getWins(0)).isEqualTo(second.getWins(0));
+        assertThat(first.getWins(1)).isEqualTo(second.getWins(1));
+    }
+
+    @Test
+    void sample_withCompleteBoard_shouldAlwaysHaveSameWinner() {
+        long board = mask(new Card(Kind.KING, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS), new Card(Kind.NINE, Suit.CLUBS), new Card(Kind.FOUR, Suit.SPADES));
+
+        Equity equity = underTest.sample(new long[]{ACES, KINGS}, board, 100, Duration.ZERO);
+
+        assertThat(equity.getWinPercentage(1)).isEqualTo(100.0);
+        assertThat(equity.getWinPercentage(0)).isZero();
+        assertThat(equity.getTiePercentage(1)).isZero();
+    }
+
+    @Test
+    void sample_withRoyalFlushOnBoard_shouldAlwaysTie() {
+        long board = mask(new Card(Kind.ACE, Suit.CLUBS), new Card(Kind.KING, Suit.HEARTS),
+                new Card(Kind.QUEEN, Suit.HEARTS), new Card(Kind.JACK, Suit.HEARTS), new Card(Kind.TEN, Suit.HEARTS));
+        long[] hands = {
+                mask(new Card(Kind.TWO, Suit.SPADES), new Card(Kind.THREE, Suit.SPADES)),
+                mask(new Card(Kind.FOUR, Suit.CLUBS), new Card(Kind.FIVE, Suit.DIAMONDS)),
+                mask(new Card(Kind.SIX, Suit.CLUBS), new Card(Kind.SEVEN, Suit.DIAMONDS))};
+        long royalBoard = board & ~mask(new Card(Kind.ACE, Suit.CLUBS)) | mask(new Card(Kind.ACE, Suit.HEARTS));
+
+        Equity equity = underTest.sample(hands, royalBoard, 10, Duration.ZERO);
+
+        assertThat(equity.getTies(0)).isEqualTo(10);
+        assertThat(equity.getTiePercentage(2)).isEqualTo(100.0);
+        assertThat(equity.getEquityPercentage(1)).isCloseTo(100.0 / 3, within(1e-9));
+    }
+
+    @Test
+    void sample_withExceededTimeBudget_shouldStopEarly() {
+        Equity equity = underTest.sample(new long[]{ACES, KINGS}, 0, 1_000_000, Duration.ofNanos(1));
+
+        assertThat(equity.getSamples()).isLessThan(1_000_000);
+    }
+
+    @Test
+    void sample_withoutSamples_shouldReturnZeroPercent() {
+        Equity equity = underTest.sample(new long[]{ACES, KINGS}, 0, 0, Duration.ZERO);
+
+        assertThat(equity.getSamples()).isZero();
+        assertThat(equity.getEquityPercentage(0)).isZero();
+    }
+
+    @Test
+    void calculate_shouldUseHandAndCommunityCards() {
+        List<Card> communityCards = Arrays.asList(new Card(Kind.ACE, Suit.CLUBS), new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.HEARTS), new Card(Kind.THREE, Suit.HEARTS));
+        List<List<Card>> handCards = Arrays.asList(
+                Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS)),
+                Arrays.asList(new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS)));
+
+        Equity equity = underTest.calculate(handCards, communityCards);
+
+        assertThat(equity.isExact()).isTrue();
+        assertThat(equity.getSamples()).isEqualTo(44);
+        assertThat(equity.getWinPercentage(0)).isEqualTo(100.0);
+    }
+
+    @Test
+    void sample_withTooManyCommunityCards_shouldThrowException() {
+        long board = CardCodec.FULL_DECK_MASK >>> 40;
+
+        assertThatThrownBy(() -> underTest.sample(new long[]{ACES}, board, 1, Duration.ZERO))
+                .isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void sample_withOneHandCard_shouldThrowException() {
+        long oneCard = mask(new Card(Kind.TWO, Suit.CLUBS));
+
+        assertThatThrownBy(() -> underTest.sample(new long[]{ACES, oneCard}, 0, 1, Duration.ZERO))
+                .isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void sample_withCardDealtTwice_shouldThrowException() {
+        long board = mask(new Card(Kind.ACE, Suit.SPADES));
+
+        assertThatThrownBy(() -> underTest.sample(new long[]{ACES, KINGS}, board, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void commonPoolConstructor_shouldCalculate() {
+        EquityCalculator calculator = new EquityCalculator(new WinnerRules(new HandRules()));
+
+        Equity equity = calculator.calculate(Collections.singletonList(
+                Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS))),
+                Collections.emptyList());
+
+        assertThat(equity.getWinPercentage(0)).isEqualTo(100.0);
+    }
+
+    @Test
+    void enumerate_onTheFlop_shouldEvaluateEveryTurnAndRiver() {
+        long flop = mask(new Card(Kind.KING, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS));
+
+        Equity equity = underTest.enumerate(new long[]{ACES, KINGS}, flop);
+
+        assertThat(equity.isExact()).isTrue();
+        assertThat(equity.getSamples()).isEqualTo(990);
+        assertThat(equity.getWins(0) + equity.getTies(0) + equity.getLosses(0)).isEqualTo(990);
+        // aces need one of the two remaining aces, but not together with the last king
+        assertThat(equity.getWins(0)).isEqualTo(85);
+        assertThat(equity.getLosses(0)).isEqualTo(equity.getWins(1));
+    }
+
+    @Test
+    void enumerate_onTheTurn_shouldEvaluateEveryRiver() {
+        long turn = mask(new Card(Kind.KING, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS), new Card(Kind.NINE, Suit.CLUBS));
+
+        Equity equity = underTest.enumerate(new long[]{ACES, KINGS}, turn);
+
+        assertThat(equity.getSamples()).isEqualTo(44);
+        assertThat(equity.getWins(0)).isEqualTo(2);
+    }
+
+    @Test
+    void enumerate_withCompleteBoard_shouldEvaluateBoardOnce() {
+        long board = mask(new Card(Kind.KING, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS), new Card(Kind.NINE, Suit.CLUBS), new Card(Kind.FOUR, Suit.SPADES));
+
+        Equity equity = underTest.enumerate(new long[]{ACES, KINGS}, board);
+
+        assertThat(equity.isExact()).isTrue();
+        assertThat(equity.getSamples()).isEqualTo(1);
+        assertThat(equity.getWins(1)).isEqualTo(1);
+    }
+
+    @Test
+    void enumerate_preFlop_shouldSplitWorkAndMatchSampling() {
+        Equity exact = underTest.enumerate(new long[]{ACES, KINGS}, 0);
+        Equity sampled = underTest.sample(new long[]{ACES, KINGS}, 0, 50_000, Duration.ZERO, new SplittableRandom(3));
+
+        assertThat(exact.isExact()).isTrue();
+        assertThat(exact.getSamples()).isEqualTo(EquityCalculator.countCombinations(48, 5));
+        assertThat(sampled.getEquityPercentage(0)).isCloseTo(exact.getEquityPercentage(0), within(1.5));
+    }
+
+    @Test
+    void calculate_shouldEnumerateIfBoardsFitIntoSamples() {
+        long flop = mask(new Card(Kind.KING, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS));
+
+        assertThat(underTest.calculate(new long[]{ACES, KINGS}, flop, 990, Duration.ZERO).isExact()).isTrue();
+        assertThat(underTest.calculate(new long[]{ACES, KINGS}, flop, 989, Duration.ZERO).isExact()).isFalse();
+    }
+
+    @Test
+    void calculate_withTimeBudget_shouldOnlyEnumerateBoardsOfOneTask() {
+        long flop = mask(new Card(Kind.KING, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.DIAMONDS));
+
+        assertThat(underTest.calculate(new long[]{ACES, KINGS}, flop, 990, Duration.ofNanos(1)).isExact()).isTrue();
+        Equity preFlop = underTest.calculate(new long[]{ACES, KINGS}, 0, 2_000_000, Duration.ofNanos(1));
+        assertThat(preFlop.isExact()).isFalse();
+        assertThat(preFlop.getSamples()).isLessThan(2_000_000);
+    }
+
+    @Test
+    void countCombinations_shouldReturnBinomialCoefficient() {
+        assertThat(EquityCalculator.countCombinations(52, 5)).isEqualTo(2_598_960);
+        assertThat(EquityCalculator.countCombinations(45, 2)).isEqualTo(990);
+        assertThat(EquityCalculator.countCombinations(44, 0)).isEqualTo(1);
+    }
+
+    private static long mask(Card... cards) {
+        return CardCodec.maskOf(Arrays.asList(cards));
+    }
+}
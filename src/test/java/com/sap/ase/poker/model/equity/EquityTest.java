@@ -0,0 +1,32 @@
+package com.sap.ase.poker.model.equity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EquityTest {
+
+    @Test
+    void combine_shouldAddCountsOfBothPlayers() {
+        Equity first = new Equity(4, new long[]{3, 0}, new long[]{1, 1}, new double[]{3.5, 0.5}, true);
+        Equity second = new Equity(2, new long[]{0, 2}, new long[]{0, 0}, new double[]{0, 2}, true);
+
+        Equity combined = first.combine(second);
+
+        assertThat(combined.getSamples()).isEqualTo(6);
+        assertThat(combined.getWins(0)).isEqualTo(3);
+        assertThat(combined.getLosses(0)).isEqualTo(2);
+        assertThat(combined.getTies(1)).isEqualTo(1);
+        assertThat(combined.getEquityPercentage(1)).isEqualTo(250.0 / 6);
+        assertThat(combined.isExact()).isTrue();
+    }
+
+    @Test
+    void combine_withSampledEquity_shouldNotBeExact() {
+        Equity exact = new Equity(1, new long[]{1}, new long[]{0}, new double[]{1}, true);
+        Equity sampled = new Equity(1, new long[]{1}, new long[]{0}, new double[]{1}, false);
+
+        assertThat(exact.combine(sampled).isExact()).isFalse();
+        assertThat(sampled.combine(exact).isExact()).isFalse();
+    }
+}
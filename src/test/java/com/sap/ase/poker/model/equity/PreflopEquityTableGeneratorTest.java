@@ -0,0 +1,78 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PreflopEquityTableGeneratorTest {
+
+    private static final Card ACE_OF_SPADES = new Card(Kind.ACE, Suit.SPADES);
+    private static final Card ACE_OF_HEARTS = new Card(Kind.ACE, Suit.HEARTS);
+    private static final Card SEVEN_OF_CLUBS = new Card(Kind.SEVEN, Suit.CLUBS);
+    private static final Card TWO_OF_HEARTS = new Card(Kind.TWO, Suit.HEARTS);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void main_shouldWriteTableReadableAtRuntime() throws IOException {
+        Path target = tempDir.resolve(PreflopEquityTable.RESOURCE_NAME);
+
+        PreflopEquityTableGenerator.main(new String[]{target.toString(), "50"});
+
+        PreflopEquityTable table = new PreflopEquityTable(target.toUri().toURL());
+        assertThat(table.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 1))
+                .isGreaterThan(table.getEquityPercentage(SEVEN_OF_CLUBS, TWO_OF_HEARTS, 1));
+        assertThat(table.getHeadsUpEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, SEVEN_OF_CLUBS, TWO_OF_HEARTS)
+                + table.getHeadsUpEquityPercentage(SEVEN_OF_CLUBS, TWO_OF_HEARTS, ACE_OF_SPADES, ACE_OF_HEARTS))
+                .isCloseTo(100.0, within(0.01));
+    }
+
+    @Test
+    void write_withSameSamples_shouldWriteSameFile() throws IOException {
+        Path first = tempDir.resolve("first.bin");
+        Path second = tempDir.resolve("second.bin");
+
+        new PreflopEquityTableGenerator(10).write(first);
+        new PreflopEquityTableGenerator(10).write(second);
+
+        assertThat(Files.readAllBytes(first)).isEqualTo(Files.readAllBytes(second));
+    }
+
+    @Test
+    void main_withoutArguments_shouldNotWriteAnything() throws IOException {
+        PreflopEquityTableGenerator.main(new String[0]);
+
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void dealHand_shouldDealCardsOfStartingHand() {
+        SplittableRandom random = new SplittableRandom(3);
+        int[] hands = {
+                PreflopEquityTable.indexOf(ACE_OF_SPADES, ACE_OF_HEARTS),
+                PreflopEquityTable.indexOf(ACE_OF_SPADES, new Card(Kind.KING, Suit.SPADES)),
+                PreflopEquityTable.indexOf(SEVEN_OF_CLUBS, TWO_OF_HEARTS)};
+
+        for (int i = 0; i < 100; i++) {
+            for (int hand : hands) {
+                List<Card> cards = CardCodec.cardsOf(PreflopEquityTableGenerator.dealHand(hand, random));
+
+                assertThat(cards).hasSize(2);
+                assertThat(PreflopEquityTable.indexOf(cards.get(0), cards.get(1))).isEqualTo(hand);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.sap.ase.poker.model.equity;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PreflopEquityTableTest {
+
+    private static final Path RESOURCE = Paths.get("src/main/resources", PreflopEquityTable.RESOURCE_NAME);
+
+    private static final Card ACE_OF_SPADES = new Card(Kind.ACE, Suit.SPADES);
+    private static final Card ACE_OF_HEARTS = new Card(Kind.ACE, Suit.HEARTS);
+    private static final Card KING_OF_SPADES = new Card(Kind.KING, Suit.SPADES);
+    private static final Card KING_OF_CLUBS = new Card(Kind.KING, Suit.CLUBS);
+    private static final Card SEVEN_OF_CLUBS = new Card(Kind.SEVEN, Suit.CLUBS);
+    private static final Card TWO_OF_HEARTS = new Card(Kind.TWO, Suit.HEARTS);
+
+    private final PreflopEquityTable underTest = new PreflopEquityTable();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void indexOf_shouldOnlyDependOnKindsAndWhetherSuited() {
+        int aceKingSuited = PreflopEquityTable.indexOf(ACE_OF_SPADES, KING_OF_SPADES);
+        int aceKingOffsuit = PreflopEquityTable.indexOf(ACE_OF_SPADES, KING_OF_CLUBS);
+
+        assertThat(aceKingSuited).isNotEqualTo(aceKingOffsuit);
+        assertThat(PreflopEquityTable.indexOf(KING_OF_SPADES, ACE_OF_SPADES)).isEqualTo(aceKingSuited);
+        assertThat(PreflopEquityTable.indexOf(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)))
+                .isEqualTo(aceKingSuited);
+        assertThat(PreflopEquityTable.indexOf(KING_OF_CLUBS, ACE_OF_HEARTS)).isEqualTo(aceKingOffsuit);
+        assertThat(PreflopEquityTable.indexOf(ACE_OF_SPADES, ACE_OF_HEARTS)).isEqualTo(12 * 13 + 12);
+        assertThat(PreflopEquityTable.indexOf(TWO_OF_HEARTS, new Card(Kind.TWO, Suit.CLUBS))).isZero();
+    }
+
+    @Test
+    void getEquityPercentage_shouldMatchKnownEquities() {
+        assertThat(underTest.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 1)).isCloseTo(85.2, within(1.0));
+        assertThat(underTest.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 9)).isCloseTo(31.4, within(1.0));
+        assertThat(underTest.getEquityPercentage(SEVEN_OF_CLUBS, TWO_OF_HEARTS, 1)).isCloseTo(34.6, within(1.0));
+    }
+
+    @Test
+    void getEquityPercentage_shouldDecreaseWithMoreOpponents() {
+        for (int opponents = 2; opponents <= PreflopEquityTable.MAX_OPPONENTS; opponents++) {
+            assertThat(underTest.getEquityPercentage(ACE_OF_SPADES, KING_OF_SPADES, opponents))
+                    .isLessThan(underTest.getEquityPercentage(ACE_OF_SPADES, KING_OF_SPADES, opponents - 1));
+        }
+    }
+
+    @Test
+    void getEquityPercentage_withUnsupportedAmountOfOpponents_shouldThrow() {
+        assertThatThrownBy(() -> underTest.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> underTest.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getHeadsUpEquityPercentage_shouldMatchKnownEquitiesAndAddUpToHundred() {
+        double acesAgainstKings = underTest.getHeadsUpEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS,
+                KING_OF_SPADES, KING_OF_CLUBS);
+        double kingsAgainstAces = underTest.getHeadsUpEquityPercentage(KING_OF_SPADES, KING_OF_CLUBS,
+                ACE_OF_SPADES, ACE_OF_HEARTS);
+
+        assertThat(acesAgainstKings).isCloseTo(82.0, within(1.0));
+        assertThat(acesAgainstKings + kingsAgainstAces).isCloseTo(100.0, within(0.01));
+        assertThat(underTest.getHeadsUpEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, ACE_OF_SPADES, ACE_OF_HEARTS))
+                .isCloseTo(50.0, within(0.01));
+    }
+
+    @Test
+    void withResourceInJar_shouldMapCopy() throws IOException {
+        Path jar = tempDir.resolve("table.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(PreflopEquityTable.RESOURCE_NAME));
+            out.write(Files.readAllBytes(RESOURCE));
+            out.closeEntry();
+        }
+
+        PreflopEquityTable fromJar = new PreflopEquityTable(
+                new URL("jar:" + jar.toUri() + "!/" + PreflopEquityTable.RESOURCE_NAME));
+
+        assertThat(fromJar.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 3))
+                .isEqualTo(underTest.getEquityPercentage(ACE_OF_SPADES, ACE_OF_HEARTS, 3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4, 8, 12})
+    void withOtherHeader_shouldThrow(int headerOffset) throws IOException {
+        byte[] content = Files.readAllBytes(RESOURCE);
+        content[headerOffset + 3]++;
+        Path file = tempDir.resolve("other.bin");
+        Files.write(file, content);
+
+        assertThatThrownBy(() -> new PreflopEquityTable(file.toUri().toURL()))
+                .isInstanceOf(InvalidEquityTableException.class);
+    }
+
+    @Test
+    void withOtherFileSize_shouldThrow() throws IOException {
+        Path file = tempDir.resolve("truncated.bin");
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(RESOURCE), PreflopEquityTable.HEADER_SIZE));
+
+        assertThatThrownBy(() -> new PreflopEquityTable(file.toUri().toURL()))
+                .isInstanceOf(InvalidEquityTableException.class);
+    }
+
+    @Test
+    void withMissingFile_shouldThrow() {
+        assertThatThrownBy(() -> new PreflopEquityTable(tempDir.resolve("missing.bin").toUri().toURL()))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void withoutResource_shouldThrow() {
+        assertThatThrownBy(() -> new PreflopEquityTable(null)).isInstanceOf(InvalidEquityTableException.class);
+    }
+}
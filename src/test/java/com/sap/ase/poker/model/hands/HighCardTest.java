@@ -6,6 +6,7 @@ import com.sap.ase.poker.model.deck.Kind;
 import com.sap.ase.poker.model.deck.Suit;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -66,5 +67,17 @@ class HighCardTest {
         assertThat(highCards.get(1)).isEqualTo(highCardKing);
         assertThat(highCards.get(2)).isEqualTo(highCardJack);
     }
-}
 
+    @Test
+    void compareTo_shouldNotChangeOrderOfCards() {
+        HighCard highCardAce = new HighCard(HandFixtures.highCardOfAce());
+        HighCard highCardKing = new HighCard(HandFixtures.highCardOfKing());
+        List<Card> relevantCards = new ArrayList<>(highCardAce.getRelevantCards());
+        List<Card> kickerCards = new ArrayList<>(highCardAce.getKickerCards());
+
+        highCardAce.compareTo(highCardKing);
+
+        assertThat(highCardAce.getRelevantCards()).containsExactlyElementsOf(relevantCards);
+        assertThat(highCardAce.getKickerCards()).containsExactlyElementsOf(kickerCards);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sap.ase.poker.model.hands;
 
+import com.sap.ase.poker.fixtures.HandFixtures;
 import com.sap.ase.poker.model.InvalidHandException;
 import com.sap.ase.poker.model.deck.Card;
 import com.sap.ase.poker.model.deck.Kind;
@@ -64,4 +65,10 @@ class RoyalFlushTest {
         int result = new RoyalFlush(royalFlushOne).compareTo(new RoyalFlush(royalFlushTwo));
         assertThat(result).isZero();
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_shouldThrowException_IfStraightFlushIsNotRoyal() {
+        assertThatThrownBy(() -> new RoyalFlush(HandFixtures.straightFlushWithKing()))
+                .isInstanceOf(InvalidHandException.class);
+    }
+}
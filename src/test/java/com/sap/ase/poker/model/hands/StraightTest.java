@@ -58,4 +58,42 @@ class StraightTest {
         assertThat(straightWithAce.compareTo(straightWithSeven)).isPositive();
         assertThat(straightWithSeven.compareTo(straightWithAce)).isNegative();
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_shouldAddWheelToCards() {
+        List<Card> cards = Arrays.asList(
+                new Card(Kind.KING, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.FIVE, Suit.HEARTS),
+                new Card(Kind.NINE, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.CLUBS),
+                new Card(Kind.THREE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.SPADES)
+        );
+        Straight result = new Straight(cards);
+
+        assertThat(result.getRelevantCards()).containsOnly(
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.FIVE, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.CLUBS),
+                new Card(Kind.THREE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.SPADES));
+    }
+
+    @Test
+    void wheelIsLowerThanStraightWithSeven() {
+        List<Card> cards = Arrays.asList(
+                new Card(Kind.KING, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.FIVE, Suit.HEARTS),
+                new Card(Kind.NINE, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.CLUBS),
+                new Card(Kind.THREE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.SPADES)
+        );
+        Straight wheel = new Straight(cards);
+        Straight straightWithSeven = new Straight(HandFixtures.straightWithSeven());
+
+        assertThat(wheel.compareTo(straightWithSeven)).isNegative();
+    }
+}
@@ -81,5 +81,26 @@ class TwoPairsTest {
         assertThat(twoPairsOfAcesAndSevens.compareTo(twoPairsOfAcesAndTwos)).isPositive();
         assertThat(twoPairsOfAcesAndTwos.compareTo(twoPairsOfAcesAndSevens)).isNegative();
     }
-}
 
+    @Test
+    void constructor_withThreePairs_shouldAddTwoHighestPairsToCards() {
+        List<Card> cards = Arrays.asList(
+                new Card(Kind.JACK, Suit.DIAMONDS),
+                new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.JACK, Suit.CLUBS),
+                new Card(Kind.FIVE, Suit.CLUBS),
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.SPADES)
+        );
+        TwoPairs result = new TwoPairs(cards);
+
+        assertThat(result.getRelevantCards()).containsOnly(
+                new Card(Kind.JACK, Suit.DIAMONDS),
+                new Card(Kind.JACK, Suit.CLUBS),
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.SPADES));
+        assertThat(result.getKickerCards()).hasSize(1);
+        assertThat(result.getKickerCards().get(0).getKind()).isEqualTo(Kind.SEVEN);
+    }
+}
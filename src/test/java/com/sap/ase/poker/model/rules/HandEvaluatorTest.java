@@ -0,0 +1,227 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.fixtures.HandFixtures;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.hands.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandEvaluatorTest {
+
+    private final HandEvaluator underTest = new HandEvaluator();
+
+    @Test
+    void evaluate_shouldReturnCategoryOfMatchingHand() {
+        assertThat(categoryOf(HandFixtures.highCardOfAce())).isEqualTo(HighCard.HIGH_CARD_RANK);
+        assertThat(categoryOf(HandFixtures.pairOfSevens())).isEqualTo(Pair.PAIR_RANK);
+        assertThat(categoryOf(HandFixtures.twoPairsOfSevensAndAces())).isEqualTo(TwoPairs.TWO_PAIRS_RANK);
+        assertThat(categoryOf(HandFixtures.threeOfAKindOfSevens())).isEqualTo(ThreeOfAKind.THREE_OF_A_KIND_RANK);
+        assertThat(categoryOf(HandFixtures.straightWithAce())).isEqualTo(Straight.STRAIGHT_RANK);
+        assertThat(categoryOf(HandFixtures.FlushWithKing())).isEqualTo(Flush.FLUSH_RANK);
+        assertThat(categoryOf(HandFixtures.fullHouseWithSevens())).isEqualTo(FullHouse.FULL_HOUSE_RANK);
+        assertThat(categoryOf(HandFixtures.fourOfAKindOfSevens())).isEqualTo(FourOfAKind.FOUR_OF_A_KIND_RANK);
+        assertThat(categoryOf(HandFixtures.straightFlushWithKing())).isEqualTo(StraightFlush.STRAIGHT_FLUSH_RANK);
+        assertThat(categoryOf(HandFixtures.royalFlush())).isEqualTo(RoyalFlush.ROYAL_FLUSH_RANK);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Suit.class)
+    void evaluate_shouldFindFlushInEverySuit(Suit suit) {
+        List<Card> cards = Arrays.asList(
+                new Card(Kind.TWO, suit),
+                new Card(Kind.FIVE, suit),
+                new Card(Kind.NINE, suit),
+                new Card(Kind.JACK, suit),
+                new Card(Kind.KING, suit),
+                new Card(Kind.KING, otherSuit(suit)),
+                new Card(Kind.THREE, otherSuit(suit)));
+
+        assertThat(categoryOf(cards)).isEqualTo(Flush.FLUSH_RANK);
+    }
+
+    @Test
+    void strongerCategoryShouldAlwaysWin() {
+        int fullHouse = underTest.evaluate(HandFixtures.fullHouseWithSevens());
+        int flush = underTest.evaluate(HandFixtures.FlushWithKing());
+        int straight = underTest.evaluate(HandFixtures.straightWithAce());
+
+        assertThat(fullHouse).isGreaterThan(flush);
+        assertThat(flush).isGreaterThan(straight);
+    }
+
+    @Test
+    void sameHandsInOtherSuitsShouldBeEqual() {
+        int redJacks = underTest.evaluate(HandFixtures.pairOfRedJacks());
+        int blackJacks = underTest.evaluate(HandFixtures.pairOfBlackJacks());
+
+        assertThat(redJacks).isEqualTo(blackJacks);
+    }
+
+    @Test
+    void highCardsShouldBeComparedByAllFiveCards() {
+        int aceHigh = underTest.evaluate(HandFixtures.highCardOfAce());
+        int kingHigh = underTest.evaluate(HandFixtures.highCardOfKing());
+        int sameTopFourWorseFifth = underTest.evaluate(Arrays.asList(
+                new Card(Kind.ACE, Suit.HEARTS),
+                new Card(Kind.JACK, Suit.SPADES),
+                new Card(Kind.NINE, Suit.HEARTS),
+                new Card(Kind.SEVEN, Suit.CLUBS),
+                new Card(Kind.FOUR, Suit.CLUBS),
+                new Card(Kind.THREE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.SPADES)));
+
+        assertThat(aceHigh).isGreaterThan(kingHigh);
+        assertThat(aceHigh).isGreaterThan(sameTopFourWorseFifth);
+    }
+
+    @Test
+    void pairsShouldBeComparedByPairThenKickers() {
+        int pairOfNines = underTest.evaluate(HandFixtures.pairOfNines());
+        int pairOfSevens = underTest.evaluate(HandFixtures.pairOfSevens());
+        int pairOfNinesWithWorseKicker = underTest.evaluate(Arrays.asList(
+                new Card(Kind.TEN, Suit.DIAMONDS),
+                new Card(Kind.NINE, Suit.DIAMONDS),
+                new Card(Kind.NINE, Suit.HEARTS),
+                new Card(Kind.THREE, Suit.DIAMONDS),
+                new Card(Kind.FIVE, Suit.CLUBS),
+                new Card(Kind.SEVEN, Suit.SPADES),
+                new Card(Kind.TWO, Suit.CLUBS)));
+
+        assertThat(pairOfNines).isGreaterThan(pairOfSevens);
+        assertThat(pairOfNines).isGreaterThan(pairOfNinesWithWorseKicker);
+    }
+
+    @Test
+    void withThreePairs_evaluate_shouldUseTwoHighestPairsAndThirdPairAsKicker() {
+        List<Card> threePairs = Arrays.asList(
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.SPADES),
+                new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.QUEEN, Suit.CLUBS),
+                new Card(Kind.QUEEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.CLUBS));
+        List<Card> acesAndQueensWithJack = Arrays.asList(
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.SPADES),
+                new Card(Kind.JACK, Suit.DIAMONDS),
+                new Card(Kind.THREE, Suit.HEARTS),
+                new Card(Kind.QUEEN, Suit.CLUBS),
+                new Card(Kind.QUEEN, Suit.HEARTS),
+                new Card(Kind.TWO, Suit.CLUBS));
+
+        assertThat(categoryOf(threePairs)).isEqualTo(TwoPairs.TWO_PAIRS_RANK);
+        assertThat(underTest.evaluate(threePairs)).isLessThan(underTest.evaluate(acesAndQueensWithJack));
+    }
+
+    @Test
+    void withTwoThreeOfAKinds_evaluate_shouldReturnFullHouseOfHigherOne() {
+        List<Card> twoTrips = Arrays.asList(
+                new Card(Kind.FIVE, Suit.DIAMONDS),
+                new Card(Kind.FIVE, Suit.SPADES),
+                new Card(Kind.FIVE, Suit.HEARTS),
+                new Card(Kind.EIGHT, Suit.DIAMONDS),
+                new Card(Kind.EIGHT, Suit.HEARTS),
+                new Card(Kind.EIGHT, Suit.CLUBS),
+                new Card(Kind.TWO, Suit.CLUBS));
+
+        assertThat(categoryOf(twoTrips)).isEqualTo(FullHouse.FULL_HOUSE_RANK);
+        assertThat(underTest.evaluate(twoTrips)).isGreaterThan(underTest.evaluate(HandFixtures.fullHouseWithSevens()));
+        assertThat(underTest.evaluate(twoTrips)).isLessThan(underTest.evaluate(HandFixtures.fullHouseWithAces()));
+    }
+
+    @Test
+    void fourOfAKindShouldBeComparedByQuadsThenKicker() {
+        int sevensWithKing = underTest.evaluate(HandFixtures.fourOfAKindOfSevens());
+        int aces = underTest.evaluate(HandFixtures.fourOfAKindOfAces());
+        int sevensWithJack = underTest.evaluate(Arrays.asList(
+                new Card(Kind.JACK, Suit.DIAMONDS),
+                new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.SEVEN, Suit.CLUBS),
+                new Card(Kind.SEVEN, Suit.SPADES),
+                new Card(Kind.THREE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.DIAMONDS)));
+
+        assertThat(aces).isGreaterThan(sevensWithKing);
+        assertThat(sevensWithKing).isGreaterThan(sevensWithJack);
+    }
+
+    @Test
+    void threeOfAKindShouldBeComparedByTripsThenKickers() {
+        int aces = underTest.evaluate(HandFixtures.threeOfAKindOfAces());
+        int sevens = underTest.evaluate(HandFixtures.threeOfAKindOfSevens());
+
+        assertThat(aces).isGreaterThan(sevens);
+    }
+
+    @Test
+    void wheel_shouldBeLowestStraight() {
+        List<Card> wheel = Arrays.asList(
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.TWO, Suit.SPADES),
+                new Card(Kind.THREE, Suit.HEARTS),
+                new Card(Kind.FOUR, Suit.DIAMONDS),
+                new Card(Kind.FIVE, Suit.CLUBS),
+                new Card(Kind.NINE, Suit.CLUBS),
+                new Card(Kind.KING, Suit.HEARTS));
+
+        assertThat(categoryOf(wheel)).isEqualTo(Straight.STRAIGHT_RANK);
+        assertThat(underTest.evaluate(wheel)).isLessThan(underTest.evaluate(HandFixtures.straightWithSeven()));
+        assertThat(underTest.evaluate(HandFixtures.straightWithSeven()))
+                .isLessThan(underTest.evaluate(HandFixtures.straightWithAce()));
+    }
+
+    @Test
+    void straightFlushesShouldBeComparedByHighestCard() {
+        int withSeven = underTest.evaluate(HandFixtures.straightFlushWithSeven());
+        int withKing = underTest.evaluate(HandFixtures.straightFlushWithKing());
+        int steelWheel = underTest.evaluate(Arrays.asList(
+                new Card(Kind.ACE, Suit.CLUBS),
+                new Card(Kind.TWO, Suit.CLUBS),
+                new Card(Kind.THREE, Suit.CLUBS),
+                new Card(Kind.FOUR, Suit.CLUBS),
+                new Card(Kind.FIVE, Suit.CLUBS),
+                new Card(Kind.FIVE, Suit.HEARTS),
+                new Card(Kind.FIVE, Suit.SPADES)));
+
+        assertThat(HandEvaluator.category(steelWheel)).isEqualTo(StraightFlush.STRAIGHT_FLUSH_RANK);
+        assertThat(steelWheel).isLessThan(withSeven);
+        assertThat(withSeven).isLessThan(withKing);
+    }
+
+    @Test
+    void withLessThanSevenCards_evaluate_shouldEvaluateAvailableCards() {
+        List<Card> flop = Arrays.asList(
+                new Card(Kind.ACE, Suit.DIAMONDS),
+                new Card(Kind.ACE, Suit.SPADES),
+                new Card(Kind.FOUR, Suit.DIAMONDS));
+
+        assertThat(categoryOf(flop)).isEqualTo(Pair.PAIR_RANK);
+        assertThat(categoryOf(flop.subList(1, 3))).isEqualTo(HighCard.HIGH_CARD_RANK);
+    }
+
+    @Test
+    void evaluate_cardMask_shouldEqualEvaluationOfCards() {
+        List<Card> cards = HandFixtures.fullHouseWithSevens();
+
+        assertThat(underTest.evaluate(CardCodec.maskOf(cards))).isEqualTo(underTest.evaluate(cards));
+    }
+
+    private int categoryOf(List<Card> cards) {
+        return HandEvaluator.category(underTest.evaluate(cards));
+    }
+
+    private Suit otherSuit(Suit suit) {
+        return Suit.values()[(suit.ordinal() + 1) % Suit.values().length];
+    }
+}
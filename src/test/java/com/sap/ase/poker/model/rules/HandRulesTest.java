@@ -2,12 +2,16 @@ package com.sap.ase.poker.model.rules;
 
 import com.sap.ase.poker.fixtures.HandFixtures;
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
 import com.sap.ase.poker.model.deck.Kind;
 import com.sap.ase.poker.model.deck.Suit;
 import com.sap.ase.poker.model.hands.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -155,4 +159,71 @@ public class HandRulesTest {
                 new Card(Kind.THREE, Suit.DIAMONDS));
         assertThat(hand).isInstanceOf(RoyalFlush.class);
     }
+
+    @Test
+    void whenOnlySixCardsPresent_evaluate_shouldReturnException() {
+        List<Card> cards = HandFixtures.invalidHandWith6Cards();
+
+        assertThatThrownBy(() -> underTest.evaluate(cards)).isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void evaluate_shouldRankBetterHandHigher() {
+        int fullHouse = underTest.evaluate(HandFixtures.fullHouseWithSevens());
+        int flush = underTest.evaluate(HandFixtures.FlushWithKing());
+
+        assertThat(fullHouse).isGreaterThan(flush);
+        assertThat(HandEvaluator.category(fullHouse)).isEqualTo(underTest.findBestHand(
+                HandFixtures.fullHouseWithSevens()).getRank());
+    }
+
+    @Test
+    void evaluate_handAndCommunityCards_shouldEqualEvaluationOfAllCards() {
+        List<Card> cards = HandFixtures.straightWithAce();
+
+        assertThat(underTest.evaluate(cards.subList(0, 2), cards.subList(2, 7))).isEqualTo(underTest.evaluate(cards));
+    }
+
+    @Test
+    void whenHandAndCommunityCardsAreNotSeven_evaluate_shouldReturnException() {
+        List<Card> cards = HandFixtures.straightWithAce();
+
+        assertThatThrownBy(() -> underTest.evaluate(cards.subList(0, 2), cards.subList(2, 6)))
+                .isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void evaluate_cardMask_shouldEqualEvaluationOfCards() {
+        List<Card> cards = HandFixtures.FlushWithKing();
+
+        assertThat(underTest.evaluate(CardCodec.maskOf(cards))).isEqualTo(underTest.evaluate(cards));
+        assertThatThrownBy(() -> underTest.evaluate(CardCodec.maskOf(cards.subList(0, 6))))
+                .isInstanceOf(InvalidAmountOfCardsException.class);
+    }
+
+    @Test
+    void findBestHand_cardMask_shouldReturnHandOfDecodedCards() {
+        Hand hand = underTest.findBestHand(CardCodec.maskOf(HandFixtures.royalFlush()));
+
+        assertThat(hand).isInstanceOf(RoyalFlush.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("sevenCardFixtures")
+    void findBestHand_scoreShouldEqualEvaluatedStrength(List<Card> cards) {
+        assertThat(underTest.findBestHand(cards).getScore()).isEqualTo(underTest.evaluate(cards));
+    }
+
+    static Stream<List<Card>> sevenCardFixtures() {
+        return Stream.of(
+                HandFixtures.highCardOfAce(), HandFixtures.highCardOfKing(), HandFixtures.highCardOfJack(),
+                HandFixtures.pairOfNines(), HandFixtures.pairOfSevens(), HandFixtures.pairOfRedJacks(),
+                HandFixtures.twoPairsOfSevensAndAces(), HandFixtures.twoPairsOfSevensAndKings(),
+                HandFixtures.twoPairsOfAcesAndTwos(), HandFixtures.threeOfAKindOfAces(),
+                HandFixtures.threeOfAKindOfSevens(), HandFixtures.straightWithSeven(), HandFixtures.straightWithAce(),
+                HandFixtures.FlushWithSeven(), HandFixtures.FlushWithKing(), HandFixtures.fullHouseWithAces(),
+                HandFixtures.fullHouseWithSevens(), HandFixtures.fourOfAKindOfAces(),
+                HandFixtures.fourOfAKindOfSevens(), HandFixtures.straightFlushWithSeven(),
+                HandFixtures.straightFlushWithKing(), HandFixtures.royalFlush());
+    }
 }
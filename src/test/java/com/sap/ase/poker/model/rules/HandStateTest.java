@@ -0,0 +1,74 @@
+package com.sap.ase.poker.model.rules;
+
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.hands.Flush;
+import com.sap.ase.poker.model.hands.Hand;
+import com.sap.ase.poker.model.hands.Pair;
+import com.sap.ase.poker.model.hands.Straight;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandStateTest {
+
+    private final HandEvaluator handEvaluator = new HandEvaluator();
+
+    @Test
+    void addCommunityCard_shouldUpdateStrengthOnEveryStreet() {
+        List<Card> handCards = Arrays.asList(new Card(Kind.EIGHT, Suit.HEARTS), new Card(Kind.NINE, Suit.HEARTS));
+        List<Card> communityCards = Arrays.asList(
+                new Card(Kind.TWO, Suit.HEARTS),
+                new Card(Kind.NINE, Suit.CLUBS),
+                new Card(Kind.TEN, Suit.SPADES),
+                new Card(Kind.JACK, Suit.DIAMONDS),
+                new Card(Kind.QUEEN, Suit.HEARTS));
+        HandState underTest = new HandState(handCards);
+        long cardMask = CardCodec.maskOf(handCards);
+
+        assertThat(underTest.getStrength()).isEqualTo(handEvaluator.evaluate(handCards));
+        for (Card communityCard : communityCards) {
+            underTest.addCommunityCard(communityCard);
+            cardMask |= CardCodec.maskOf(communityCard);
+
+            assertThat(underTest.getCardMask()).isEqualTo(cardMask);
+            assertThat(underTest.getStrength()).isEqualTo(handEvaluator.evaluate(cardMask));
+        }
+        assertThat(underTest.getCategory()).isEqualTo(Straight.STRAIGHT_RANK);
+    }
+
+    @Test
+    void getBestHand_shouldBeEmptyBeforeFlop() {
+        HandState underTest = new HandState(
+                Arrays.asList(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.ACE, Suit.CLUBS)));
+
+        assertThat(underTest.getBestHand()).isEmpty();
+        assertThat(underTest.getCategory()).isEqualTo(Pair.PAIR_RANK);
+    }
+
+    @Test
+    void getBestHand_shouldFollowAddedCards() {
+        HandState underTest = new HandState(
+                Arrays.asList(new Card(Kind.ACE, Suit.HEARTS), new Card(Kind.KING, Suit.HEARTS)));
+        underTest.addCommunityCard(new Card(Kind.ACE, Suit.CLUBS));
+        underTest.addCommunityCard(new Card(Kind.SEVEN, Suit.HEARTS));
+        underTest.addCommunityCard(new Card(Kind.TWO, Suit.DIAMONDS));
+
+        Hand flop = underTest.getBestHand().get();
+        assertThat(flop).isInstanceOf(Pair.class);
+        assertThat(flop.getScore()).isEqualTo(underTest.getStrength());
+        assertThat(underTest.getBestHand().get()).isSameAs(flop);
+
+        underTest.addCommunityCard(new Card(Kind.THREE, Suit.HEARTS));
+        underTest.addCommunityCard(new Card(Kind.FOUR, Suit.HEARTS));
+
+        Hand river = underTest.getBestHand().get();
+        assertThat(river).isInstanceOf(Flush.class);
+        assertThat(river.getScore()).isEqualTo(underTest.getStrength());
+    }
+}
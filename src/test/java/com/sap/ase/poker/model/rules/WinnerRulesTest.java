@@ -4,6 +4,8 @@ import com.sap.ase.poker.fixtures.HandFixtures;
 import com.sap.ase.poker.fixtures.PlayerFixtures;
 import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.hands.FullHouse;
 import com.sap.ase.poker.model.hands.HighCard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -141,4 +143,40 @@ class WinnerRulesTest {
         assertThat(winners.getWinners()).contains(patWithFlush);
         assertThat(winners.getWinners()).doesNotContain(alWithThreeAces);
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenNoActivePlayers_findWinners_shouldReturnNoWinnersAndNoHand() {
+        Winners winners = underTest.findWinners(Collections.emptyList(), Collections.emptyList());
+
+        assertThat(winners.getWinners()).isEmpty();
+        assertThat(winners.getWinningHand()).isEmpty();
+    }
+
+    @Test
+    void findWinners_shouldBuildWinningHandOnlyOnce() {
+        Player alWithFullHouse = PlayerFixtures.AL_CAPONE();
+        alWithFullHouse.setHandCards(HandFixtures.fullHouseWithAces());
+
+        Winners winners = underTest.findWinners(Collections.emptyList(), Collections.singletonList(alWithFullHouse));
+
+        assertThat(winners.getWinningHand()).containsInstanceOf(FullHouse.class);
+        assertThat(winners.getWinningHand().get()).isSameAs(winners.getWinningHand().get());
+    }
+
+    @Test
+    void findWinners_cardMasks_shouldReturnBitsOfAllPlayersWithBestHand() {
+        List<Card> pairOfRedJacks = HandFixtures.pairOfRedJacks();
+        List<Card> pairOfBlackJacks = HandFixtures.pairOfBlackJacks();
+        List<Card> highCardOfKing = HandFixtures.highCardOfKing();
+        long communityCards = CardCodec.maskOf(pairOfRedJacks.subList(2, 7));
+        long[] handCards = {
+                CardCodec.maskOf(highCardOfKing.subList(0, 2)),
+                CardCodec.maskOf(pairOfRedJacks.subList(0, 2)),
+                CardCodec.maskOf(pairOfBlackJacks.subList(0, 2)),
+                CardCodec.maskOf(highCardOfKing.subList(0, 2))};
+
+        long winners = underTest.findWinners(communityCards, handCards);
+
+        assertThat(winners).isEqualTo(0b0110L);
+    }
+}
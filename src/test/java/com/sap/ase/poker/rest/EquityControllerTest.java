@@ -0,0 +1,222 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.ase.poker.dto.GetEquityResponseDto;
+import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.CardCodec;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.equity.EquityCalculator;
+import com.sap.ase.poker.model.rules.WinnerRules;
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EquityController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@TestPropertySource(properties = "poker.equity.max-concurrent=1")
+class EquityControllerTest {
+
+    private static final String PATH = "/api/v1/equity";
+    private static final String TABLE_ID = "table-1";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    TableService tableService = Mockito.mock(TableService.class);
+
+    @MockBean
+    TableRegistry tableRegistry;
+
+    @SpyBean
+    EquityCalculator equityCalculator;
+
+    @MockBean
+    WinnerRules winnerRules;
+
+    @BeforeEach
+    void setUp() {
+        TableMailbox table = new TableMailbox(tableService, Runnable::run);
+        Mockito.when(tableRegistry.getTable(TableRegistry.DEFAULT_TABLE_ID)).thenReturn(table);
+        Mockito.when(tableRegistry.getTable(TABLE_ID)).thenReturn(table);
+        Mockito.when(tableService.getSnapshot()).thenAnswer(invocation -> new TableSnapshot(1, tableService));
+    }
+
+    @Test
+    void getEquity_returnsEquityOfActivePlayers() throws Exception {
+        Player alice = playerWithCards("alice", new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS));
+        Player bob = playerWithCards("bob", new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS));
+        Player folded = playerWithCards("carol", new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.SEVEN, Suit.DIAMONDS));
+        folded.setInactive();
+        Mockito.when(tableService.getPlayers()).thenReturn(Arrays.asList(alice, bob, folded));
+        Mockito.when(tableService.getCommunityCards()).thenReturn(Collections.emptyList());
+        Mockito.when(winnerRules.findWinners(ArgumentMatchers.anyLong(), ArgumentMatchers.any(long[].class)))
+                .thenReturn(0b01L);
+
+        MockHttpServletResponse response = mockMvc.perform(spectate().param("samples", "100"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        GetEquityResponseDto result = objectMapper.readValue(response.getContentAsString(), GetEquityResponseDto.class);
+        assertThat(result.getSamples()).isEqualTo(100);
+        assertThat(result.isExact()).isFalse();
+        assertThat(result.getPlayers()).hasSize(2);
+        assertThat(result.getPlayers().get(0).getPlayerId()).isEqualTo("alice");
+        assertThat(result.getPlayers().get(0).getWin()).isEqualTo(100.0);
+        assertThat(result.getPlayers().get(1).getEquity()).isZero();
+    }
+
+    @Test
+    void getEquity_shouldLimitSamplesAndTimeBudget() throws Exception {
+        List<Card> board = Arrays.asList(new Card(Kind.TWO, Suit.CLUBS), new Card(Kind.SEVEN, Suit.DIAMONDS),
+                new Card(Kind.NINE, Suit.HEARTS), new Card(Kind.JACK, Suit.HEARTS), new Card(Kind.FOUR, Suit.SPADES));
+        Mockito.when(tableService.getPlayers()).thenReturn(Collections.emptyList());
+        Mockito.when(tableService.getCommunityCards()).thenReturn(board);
+
+        mockMvc.perform(spectate().param("samples", "-5").param("timeBudgetMillis", "-1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(spectate().param("samples", "2000000000").param("timeBudgetMillis", "1"))
+                .andExpect(status().isOk());
+
+        long boardMask = CardCodec.maskOf(board);
+        Mockito.verify(equityCalculator).calculate(new long[0], boardMask, 1, Duration.ZERO);
+        Mockito.verify(equityCalculator)
+                .calculate(new long[0], boardMask, EquityController.MAX_SAMPLES, Duration.ofMillis(1));
+    }
+
+    @Test
+    void getEquity_onTheFlop_returnsExactEquity() throws Exception {
+        Player alice = playerWithCards("alice", new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS));
+        Player bob = playerWithCards("bob", new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS));
+        Mockito.when(tableService.getPlayers()).thenReturn(Arrays.asList(alice, bob));
+        Mockito.when(tableService.getCommunityCards()).thenReturn(Arrays.asList(new Card(Kind.TWO, Suit.CLUBS),
+                new Card(Kind.SEVEN, Suit.DIAMONDS), new Card(Kind.NINE, Suit.HEARTS)));
+        Mockito.when(winnerRules.findWinners(ArgumentMatchers.anyLong(), ArgumentMatchers.any(long[].class)))
+                .thenReturn(0b11L);
+
+        MockHttpServletResponse response = mockMvc.perform(spectate())
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        GetEquityResponseDto result = objectMapper.readValue(response.getContentAsString(), GetEquityResponseDto.class);
+        assertThat(result.isExact()).isTrue();
+        assertThat(result.getSamples()).isEqualTo(990);
+        assertThat(result.getPlayers().get(1).getTie()).isEqualTo(100.0);
+    }
+
+    @Test
+    void getEquity_whileBetting_isForbiddenForPlayersAndSpectators() throws Exception {
+        Player alice = playerWithCards("alice", new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS));
+        Player bob = playerWithCards("bob", new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS));
+        Mockito.when(tableService.getPlayers()).thenReturn(Arrays.asList(alice, bob));
+        Mockito.when(tableService.getCommunityCards()).thenReturn(Collections.emptyList());
+        Mockito.when(tableService.getState()).thenReturn(GameState.PRE_FLOP);
+
+        mockMvc.perform(get(PATH).principal(principal("bob"))).andExpect(status().isForbidden());
+        mockMvc.perform(get(PATH).principal(principal("spectator"))).andExpect(status().isForbidden());
+
+        Mockito.verifyNoInteractions(equityCalculator);
+    }
+
+    @Test
+    void getEquity_ofTable_returnsEquityOfItsPlayers() throws Exception {
+        Player alice = playerWithCards("alice", new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS));
+        Mockito.when(tableService.getPlayers()).thenReturn(Collections.singletonList(alice));
+        Mockito.when(tableService.getCommunityCards()).thenReturn(Collections.emptyList());
+        Mockito.when(tableService.getState()).thenReturn(GameState.ENDED);
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/tables/" + TABLE_ID + "/equity")
+                .principal(principal("spectator")).param("samples", "10"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        GetEquityResponseDto result = objectMapper.readValue(response.getContentAsString(), GetEquityResponseDto.class);
+        assertThat(result.getPlayers().get(0).getPlayerId()).isEqualTo("alice");
+        Mockito.verify(tableRegistry).getTable(TABLE_ID);
+    }
+
+    @Test
+    void getEquity_whileAnotherCalculationRuns_isRefused() throws Exception {
+        Mockito.when(tableService.getPlayers()).thenReturn(Collections.emptyList());
+        Mockito.when(tableService.getCommunityCards()).thenReturn(Collections.emptyList());
+        List<Integer> nested = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            nested.add(mockMvc.perform(spectate()).andReturn().getResponse().getStatus());
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(equityCalculator).calculate(ArgumentMatchers.any(long[].class),
+                ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any(Duration.class));
+
+        mockMvc.perform(spectate().param("samples", "10")).andExpect(status().isOk());
+        mockMvc.perform(spectate().param("samples", "10")).andExpect(status().isOk());
+
+        assertThat(nested).containsExactly(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void getEquity_forSeatedPlayer_onceBettingIsOver() throws Exception {
+        Player alice = playerWithCards("alice", new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS));
+        Player bob = playerWithCards("bob", new Card(Kind.KING, Suit.CLUBS), new Card(Kind.KING, Suit.DIAMONDS));
+        Mockito.when(tableService.getPlayers()).thenReturn(Arrays.asList(alice, bob));
+        Mockito.when(tableService.getCommunityCards()).thenReturn(Collections.emptyList());
+        Mockito.when(tableService.getState()).thenReturn(GameState.ENDED);
+
+        mockMvc.perform(get(PATH).principal(principal("bob")).param("samples", "10")).andExpect(status().isOk());
+
+        Mockito.when(tableService.getState()).thenReturn(GameState.PRE_FLOP);
+        alice.deductCash(100);
+        bob.deductCash(100);
+
+        mockMvc.perform(get(PATH).principal(principal("bob")).param("samples", "10")).andExpect(status().isOk());
+    }
+
+    /**
+     * A privileged spectator, it gets the chances while the players are betting
+     */
+    private static MockHttpServletRequestBuilder spectate() {
+        return get(PATH).principal(principal("spectator")).with(request -> {
+            request.addUserRole(EquityController.PRIVILEGED_ROLE);
+            return request;
+        });
+    }
+
+    private static Principal principal(String name) {
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn(name);
+        return principal;
+    }
+
+    private Player playerWithCards(String id, Card... cards) {
+        Player player = new Player(id, id, 100);
+        player.setHandCards(Arrays.asList(cards));
+        player.setActive();
+        return player;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.ase.poker.dto.DeckPipelineMetricsDto;
+import com.sap.ase.poker.dto.TablePollMetricsDto;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MetricsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class MetricsControllerTest {
+
+    private static final String PATH = "/api/v1/metrics/deck-pipeline";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    ShuffledDeckSupplier shuffledDeckSupplier;
+
+    @MockBean
+    TableViewCache tableViewCache;
+
+    @Test
+    void getDeckPipelineMetrics_returnsFillLevelAndFallbacks() throws Exception {
+        Mockito.when(shuffledDeckSupplier.getFillLevel()).thenReturn(12);
+        Mockito.when(shuffledDeckSupplier.getTargetFill()).thenReturn(20);
+        Mockito.when(shuffledDeckSupplier.getCapacity()).thenReturn(1024);
+        Mockito.when(shuffledDeckSupplier.getDecksPerSecond()).thenReturn(17.5);
+        Mockito.when(shuffledDeckSupplier.getFallbacks()).thenReturn(3L);
+
+        MockHttpServletResponse response = mockMvc.perform(get(PATH))
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        DeckPipelineMetricsDto result =
+                objectMapper.readValue(response.getContentAsString(), DeckPipelineMetricsDto.class);
+        assertThat(result.getFillLevel()).isEqualTo(12);
+        assertThat(result.getTargetFill()).isEqualTo(20);
+        assertThat(result.getCapacity()).isEqualTo(1024);
+        assertThat(result.getDecksPerSecond()).isEqualTo(17.5);
+        assertThat(result.getFallbacks()).isEqualTo(3);
+    }
+
+    @Test
+    void getTablePollMetrics_returnsRatioOfNotModifiedPolls() throws Exception {
+        assertThat(getTablePollMetrics().getNotModifiedRatio()).isZero();
+
+        Mockito.when(tableViewCache.getPolls()).thenReturn(40L);
+        Mockito.when(tableViewCache.getNotModifiedPolls()).thenReturn(30L);
+
+        TablePollMetricsDto result = getTablePollMetrics();
+        assertThat(result.getPolls()).isEqualTo(40);
+        assertThat(result.getNotModified()).isEqualTo(30);
+        assertThat(result.getNotModifiedRatio()).isEqualTo(0.75);
+    }
+
+    private TablePollMetricsDto getTablePollMetrics() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/metrics/table-polls"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        return objectMapper.readValue(response.getContentAsString(), TablePollMetricsDto.class);
+    }
+}
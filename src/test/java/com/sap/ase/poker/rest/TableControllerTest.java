@@ -1,31 +1,66 @@
 package com.sap.ase.poker.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.ase.poker.data.PlayerNamesRepository;
 import com.sap.ase.poker.dto.BetRequestDto;
+import com.sap.ase.poker.dto.BetResultDto;
 import com.sap.ase.poker.dto.GetTableResponseDto;
 import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.IllegalActionException;
 import com.sap.ase.poker.model.Player;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableNotFoundException;
+import com.sap.ase.poker.service.TableRegistry;
 import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest
+@WebMvcTest(TableController.class)
+@Import({TableViewCache.class, TableControllerTest.StreamExecutorConfig.class})
 @AutoConfigureMockMvc(addFilters = false)
 public class TableControllerTest {
 
@@ -33,8 +68,15 @@ public class TableControllerTest {
     public static final int BET_AMOUNT = 10;
     public static final String RAISE = "raise";
     public static final String CHECK = "check";
+    public static final String FOLD = "fold";
     public static final String ALICE_ID = "alice";
     public static final String ALICE_NAME = "aliceName";
+    public static final String TABLE_ID = "table-1";
+
+    /**
+     * Every snapshot of the mocked tables gets a new version, so the views cached in the context are never reused
+     */
+    private static final AtomicLong VERSIONS = new AtomicLong();
 
     @Autowired
     MockMvc mockMvc;
@@ -42,12 +84,44 @@ public class TableControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    TableService tableService = Mockito.mock(TableService.class);
+
+    TableService otherTableService = Mockito.mock(TableService.class);
+
     @MockBean
-    TableService tableService;
+    TableRegistry tableRegistry;
 
     @MockBean
     PlayerNamesRepository playerNamesRepository;
 
+    @MockBean
+    TableEventStreams tableEventStreams;
+
+    @Autowired
+    Executor tableStreamExecutor;
+
+    @Autowired
+    TableViewCache tableViewCache;
+
+    @BeforeEach
+    void setUp() {
+        TableMailbox defaultTable = new TableMailbox(tableService, Runnable::run);
+        TableMailbox otherTable = new TableMailbox(otherTableService, Runnable::run);
+        Mockito.when(tableRegistry.getTable(TableRegistry.DEFAULT_TABLE_ID)).thenReturn(defaultTable);
+        Mockito.when(tableRegistry.getTable(TABLE_ID)).thenReturn(otherTable);
+        Mockito.when(tableRegistry.isOpen(Mockito.anyString())).thenReturn(true);
+        Mockito.clearInvocations(tableService, otherTableService);
+        Mockito.reset(tableStreamExecutor);
+        Mockito.doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(tableStreamExecutor).execute(Mockito.any());
+        Mockito.when(tableService.getSnapshot())
+                .thenAnswer(invocation -> new TableSnapshot(VERSIONS.incrementAndGet(), tableService));
+        Mockito.when(otherTableService.getSnapshot())
+                .thenAnswer(invocation -> new TableSnapshot(VERSIONS.incrementAndGet(), otherTableService));
+    }
+
     @Test
     void getTable_returnsGetTableResponseDtoWithTableStatus() throws Exception {
         Principal mockPrincipal = Mockito.mock(Principal.class);
@@ -58,7 +132,7 @@ public class TableControllerTest {
                 new Player("bob", "Bob", 100)));
         Mockito.when(tableService.getState()).thenReturn(GameState.FLOP);
 
-        MockHttpServletResponse response = mockMvc.perform(get(PATH).principal(mockPrincipal))
+        MockHttpServletResponse response = perform(get(PATH).principal(mockPrincipal))
                 .andExpect(status().isOk()).andReturn().getResponse();
 
         GetTableResponseDto result = objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class);
@@ -73,7 +147,7 @@ public class TableControllerTest {
 
         Mockito.when(playerNamesRepository.getNameForId(ALICE_ID)).thenReturn(ALICE_NAME);
 
-        mockMvc.perform(post(PATH+"/players").principal(mockPrincipal))
+        perform(post(PATH+"/players").principal(mockPrincipal))
                 .andExpect(status().isNoContent());
         Mockito.verify(tableService,Mockito.times(1)).addPlayer(ALICE_ID, ALICE_NAME);
     }
@@ -83,7 +157,7 @@ public class TableControllerTest {
         Principal mockPrincipal = Mockito.mock(Principal.class);
         Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
 
-        mockMvc.perform(post(PATH+"/start").principal(mockPrincipal))
+        perform(post(PATH+"/start").principal(mockPrincipal))
                 .andExpect(status().isNoContent()).andReturn().getResponse();
 
         Mockito.verify(tableService,Mockito.times(1)).start();
@@ -100,7 +174,7 @@ public class TableControllerTest {
 
         String raiseJson = objectMapper.writeValueAsString(betRequest);
 
-        mockMvc.perform(post(PATH+"/actions").
+        perform(post(PATH+"/actions").
                         principal(mockPrincipal).
                         content(raiseJson).
                         contentType(MediaType.APPLICATION_JSON))
@@ -121,7 +195,7 @@ public class TableControllerTest {
 
         String raiseJson = objectMapper.writeValueAsString(betRequest);
 
-        mockMvc.perform(post(PATH+"/actions").
+        perform(post(PATH+"/actions").
                         principal(mockPrincipal).
                         content(raiseJson).
                         contentType(MediaType.APPLICATION_JSON))
@@ -130,4 +204,306 @@ public class TableControllerTest {
         Mockito.verify(tableService,Mockito.times(1)).performAction(CHECK,0);
     }
 
+    @Test
+    void getTable_withETagOfCurrentView_returnsNotModified() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(tableService.getState()).thenReturn(GameState.OPEN);
+        TableSnapshot snapshot = new TableSnapshot(VERSIONS.incrementAndGet(), tableService);
+        Mockito.doReturn(snapshot).when(tableService).getSnapshot();
+
+        String eTag = perform(get(PATH).principal(mockPrincipal))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        MockHttpServletResponse response = perform(get(PATH).principal(mockPrincipal)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag)).andReturn().getResponse();
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        Mockito.doReturn(new TableSnapshot(VERSIONS.incrementAndGet(), tableService)).when(tableService).getSnapshot();
+        perform(get(PATH).principal(mockPrincipal).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void watchTable_withOtherVersion_returnsTableRightAway() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(tableService.getState()).thenReturn(GameState.OPEN);
+
+        MockHttpServletResponse response = perform(get(PATH).param("sinceVersion", "0").principal(mockPrincipal))
+                .andExpect(status().isOk()).andExpect(header().exists(HttpHeaders.ETAG)).andReturn().getResponse();
+
+        GetTableResponseDto result = objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class);
+        assertThat(result.getVersion()).isPositive();
+    }
+
+    @Test
+    void watchTable_withCurrentVersion_isParkedUntilTableChanges() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(otherTableService.getState()).thenReturn(GameState.OPEN);
+        TableSnapshot snapshot = new TableSnapshot(VERSIONS.incrementAndGet(), otherTableService);
+        Mockito.doReturn(snapshot).when(otherTableService).getSnapshot();
+
+        MvcResult parked = mockMvc.perform(get(PATH + "tables/" + TABLE_ID)
+                .param("sinceVersion", String.valueOf(snapshot.getVersion())).principal(mockPrincipal)).andReturn();
+        assertThat(parked.getRequest().isAsyncStarted()).isTrue();
+        assertThatThrownBy(() -> parked.getAsyncResult(0)).isInstanceOf(IllegalStateException.class);
+
+        Mockito.when(otherTableService.getState()).thenReturn(GameState.PRE_FLOP);
+        TableSnapshot started = new TableSnapshot(VERSIONS.incrementAndGet(), otherTableService);
+        Mockito.doReturn(started).when(otherTableService).getSnapshot();
+        perform(post(PATH + "tables/" + TABLE_ID + "/start")).andExpect(status().isNoContent());
+
+        Mockito.verify(tableStreamExecutor).execute(Mockito.any());
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(parked))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        GetTableResponseDto result = objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class);
+        assertThat(result.getVersion()).isEqualTo(started.getVersion());
+        assertThat(result.getState()).isEqualTo(GameState.PRE_FLOP.getValue());
+    }
+
+    @Test
+    void watchTable_afterTimeout_returnsUnchangedTable() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(tableService.getState()).thenReturn(GameState.OPEN);
+        TableSnapshot snapshot = new TableSnapshot(VERSIONS.incrementAndGet(), tableService);
+        Mockito.doReturn(snapshot).when(tableService).getSnapshot();
+
+        List<Runnable> streamTasks = new ArrayList<>();
+        Mockito.doAnswer(invocation -> streamTasks.add(invocation.getArgument(0)))
+                .when(tableStreamExecutor).execute(Mockito.any());
+
+        MvcResult parked = mockMvc.perform(get(PATH)
+                .param("sinceVersion", String.valueOf(snapshot.getVersion())).principal(mockPrincipal)).andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) parked.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        // the stream pool only gets to its tasks after the timeout was handled, on a thread of its own
+        CompletableFuture.runAsync(() -> streamTasks.forEach(Runnable::run)).join();
+
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(parked))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        GetTableResponseDto result = objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class);
+        assertThat(result.getVersion()).isEqualTo(snapshot.getVersion());
+    }
+
+    @Test
+    void createTable_returnsLocationOfNewTable() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(tableRegistry.createTable(ALICE_ID, null)).thenReturn(TABLE_ID);
+        Mockito.when(tableRegistry.createTable(ALICE_ID, "simulation")).thenReturn("table-2");
+
+        perform(post(PATH + "tables").principal(mockPrincipal))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", PATH + "tables/" + TABLE_ID));
+        perform(post(PATH + "tables").principal(mockPrincipal).param("shuffler", "simulation"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", PATH + "tables/table-2"));
+    }
+
+    @Test
+    void getTableChanges_returnsChangesSinceBaseOrWholeStatus() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(tableService.getState()).thenReturn(GameState.OPEN);
+        Mockito.when(otherTableService.getState()).thenReturn(GameState.OPEN);
+        TableSnapshot base = new TableSnapshot(VERSIONS.incrementAndGet(), tableService);
+        Mockito.when(tableService.getSnapshot(base.getVersion())).thenReturn(Optional.of(base));
+        Mockito.when(tableService.getState()).thenReturn(GameState.PRE_FLOP);
+
+        MockHttpServletResponse response = perform(get(PATH).param("base", tableViewCache.getToken(base))
+                .principal(mockPrincipal)).andExpect(status().isOk()).andReturn().getResponse();
+        MockHttpServletResponse otherEpoch = perform(get(PATH).param("base", "1a2b3c-" + base.getVersion())
+                .principal(mockPrincipal)).andExpect(status().isOk()).andReturn().getResponse();
+        MockHttpServletResponse whole = perform(get(PATH + "tables/" + TABLE_ID)
+                .param("base", tableViewCache.getEpoch() + "-1")
+                .principal(mockPrincipal)).andExpect(status().isOk()).andReturn().getResponse();
+
+        JsonNode delta = objectMapper.readTree(response.getContentAsString());
+        assertThat(delta.get("epoch").asText()).isEqualTo(tableViewCache.getEpoch());
+        assertThat(delta.get("baseVersion").asLong()).isEqualTo(base.getVersion());
+        assertThat(delta.get("changes").get("state").asInt()).isEqualTo(GameState.PRE_FLOP.getValue());
+        assertThat(delta.get("changes").has("players")).isFalse();
+        JsonNode otherEpochDelta = objectMapper.readTree(otherEpoch.getContentAsString());
+        assertThat(otherEpochDelta.get("baseVersion").asLong()).isZero();
+        assertThat(otherEpochDelta.get("changes").has("players")).isTrue();
+        JsonNode wholeDelta = objectMapper.readTree(whole.getContentAsString());
+        assertThat(wholeDelta.get("baseVersion").asLong()).isZero();
+        assertThat(wholeDelta.get("changes").get("state").asInt()).isEqualTo(GameState.OPEN.getValue());
+        assertThat(wholeDelta.get("changes").has("players")).isTrue();
+    }
+
+    @Test
+    void placeBets_placesBetsInOrderPerTableWithResultOfEveryBet() throws Exception {
+        Mockito.doThrow(new IllegalActionException("Not your turn")).when(tableService).performAction(FOLD, 0);
+        String batchJson = "["
+                + "{\"type\":\"" + RAISE + "\",\"args\":[" + BET_AMOUNT + "]},"
+                + "{\"tableId\":\"" + TABLE_ID + "\",\"type\":\"" + CHECK + "\",\"args\":[]},"
+                + "{\"tableId\":\"" + TableRegistry.DEFAULT_TABLE_ID + "\",\"type\":\"" + FOLD + "\"}]";
+
+        MockHttpServletResponse response = perform(post(PATH + "actions/batch")
+                .content(batchJson).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        BetResultDto[] results = objectMapper.readValue(response.getContentAsString(), BetResultDto[].class);
+        assertThat(results).extracting(BetResultDto::isApplied).containsExactly(true, true, false);
+        assertThat(results).extracting(BetResultDto::getError).containsExactly(null, null, "Not your turn");
+        InOrder defaultTable = Mockito.inOrder(tableService);
+        defaultTable.verify(tableService).performAction(RAISE, BET_AMOUNT);
+        defaultTable.verify(tableService).performAction(FOLD, 0);
+        Mockito.verify(otherTableService).performAction(CHECK, 0);
+    }
+
+    @Test
+    void placeBets_withUnknownTable_placesNoBet() throws Exception {
+        Mockito.when(tableRegistry.getTable("unknown")).thenThrow(new TableNotFoundException("unknown"));
+        String batchJson = "["
+                + "{\"type\":\"" + CHECK + "\"},"
+                + "{\"tableId\":\"unknown\",\"type\":\"" + CHECK + "\"}]";
+
+        perform(post(PATH + "actions/batch").content(batchJson).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        Mockito.verify(tableService, Mockito.never()).performAction(Mockito.anyString(), Mockito.anyInt());
+    }
+
+    @Test
+    void placeBets_beyondMaxBatchSize_isRejected() throws Exception {
+        String bet = "{\"type\":\"" + CHECK + "\"}";
+        String batchJson = "[" + String.join(",", Collections.nCopies(TableController.MAX_BATCH_SIZE + 1, bet)) + "]";
+
+        perform(post(PATH + "actions/batch").content(batchJson).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(tableService, Mockito.never()).performAction(Mockito.anyString(), Mockito.anyInt());
+    }
+
+    @Test
+    void streamTable_subscribesToTableOfId() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(tableEventStreams.subscribe(Mockito.anyString(), Mockito.any(), Mockito.anyString(),
+                Mockito.any())).thenAnswer(invocation -> new SseEmitter());
+
+        MvcResult defaultStream = mockMvc.perform(get(PATH + "stream").principal(mockPrincipal)).andReturn();
+        MvcResult resumed = mockMvc.perform(get(PATH + "tables/" + TABLE_ID + "/stream").principal(mockPrincipal)
+                .header(TableController.LAST_EVENT_ID, "epoch-7")).andReturn();
+
+        assertThat(defaultStream.getRequest().isAsyncStarted()).isTrue();
+        assertThat(resumed.getRequest().isAsyncStarted()).isTrue();
+        Mockito.verify(tableEventStreams).subscribe(TableRegistry.DEFAULT_TABLE_ID,
+                tableRegistry.getTable(TableRegistry.DEFAULT_TABLE_ID), ALICE_ID, null);
+        Mockito.verify(tableEventStreams).subscribe(TABLE_ID, tableRegistry.getTable(TABLE_ID), ALICE_ID, "epoch-7");
+    }
+
+    @Test
+    void closeTable_removesTableFromRegistry() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(otherTableService.getState()).thenReturn(GameState.PRE_FLOP);
+        perform(get(PATH + "tables/" + TABLE_ID).principal(mockPrincipal)).andExpect(status().isOk());
+        Mockito.when(otherTableService.getState()).thenReturn(GameState.OPEN);
+
+        perform(delete(PATH + "tables/" + TABLE_ID).principal(mockPrincipal))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(tableRegistry).closeTable(TABLE_ID, ALICE_ID);
+        Mockito.verify(tableEventStreams).close(TABLE_ID);
+        TableSnapshot reopened = new TableSnapshot(0, otherTableService);
+        Mockito.doReturn(reopened).when(otherTableService).getSnapshot();
+        MockHttpServletResponse response = perform(get(PATH + "tables/" + TABLE_ID).principal(mockPrincipal))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class).getState())
+                .isEqualTo(GameState.OPEN.getValue());
+    }
+
+    @Test
+    void tableEndpoints_withUnknownTable_returnNotFound() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(tableRegistry.getTable("unknown")).thenThrow(new TableNotFoundException("unknown"));
+
+        perform(get(PATH + "tables/unknown").principal(mockPrincipal))
+                .andExpect(status().isNotFound());
+        perform(post(PATH + "tables/unknown/start"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void tableEndpoints_addressTableOfId() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Mockito.when(playerNamesRepository.getNameForId(ALICE_ID)).thenReturn(ALICE_NAME);
+        Mockito.when(otherTableService.getPlayers()).thenReturn(Arrays.asList(new Player(ALICE_ID, "Alice", 100)));
+        Mockito.when(otherTableService.getState()).thenReturn(GameState.PRE_FLOP);
+        BetRequestDto betRequest = new BetRequestDto();
+        betRequest.setType(RAISE);
+        betRequest.setArgs(new int[]{BET_AMOUNT});
+
+        MockHttpServletResponse response = perform(get(PATH + "tables/" + TABLE_ID).principal(mockPrincipal))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        perform(post(PATH + "tables/" + TABLE_ID + "/players").principal(mockPrincipal))
+                .andExpect(status().isNoContent());
+        perform(post(PATH + "tables/" + TABLE_ID + "/start"))
+                .andExpect(status().isNoContent());
+        perform(post(PATH + "tables/" + TABLE_ID + "/actions")
+                        .content(objectMapper.writeValueAsString(betRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        GetTableResponseDto result = objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class);
+        assertThat(result.getPlayers()).hasSize(1);
+        assertThat(result.getState()).isEqualTo(GameState.PRE_FLOP.getValue());
+        Mockito.verify(otherTableService).addPlayer(ALICE_ID, ALICE_NAME);
+        Mockito.verify(otherTableService).start();
+        Mockito.verify(otherTableService).performAction(RAISE, BET_AMOUNT);
+        Mockito.verifyNoInteractions(tableService);
+    }
+
+    @Test
+    void getTable_mapsSnapshotOfTable() throws Exception {
+        Principal mockPrincipal = Mockito.mock(Principal.class);
+        Mockito.when(mockPrincipal.getName()).thenReturn(ALICE_ID);
+        Player alice = new Player(ALICE_ID, "Alice", 90);
+        alice.setHandCards(Arrays.asList(new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.SPADES)));
+        Player bob = new Player("bob", "Bob", 100);
+        Mockito.when(tableService.getPlayers()).thenReturn(Arrays.asList(alice, bob));
+        Mockito.when(tableService.getCurrentPlayer()).thenReturn(Optional.of(bob));
+        Mockito.when(tableService.getWinner()).thenReturn(Optional.of(alice));
+        Mockito.when(tableService.getState()).thenReturn(GameState.ENDED);
+
+        MockHttpServletResponse response = perform(get(PATH).principal(mockPrincipal))
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        GetTableResponseDto result = objectMapper.readValue(response.getContentAsString(), GetTableResponseDto.class);
+        assertThat(result.getPlayerCards()).hasSize(2);
+        assertThat(result.getCurrentPlayer().getId()).isEqualTo("bob");
+        assertThat(result.getWinner().getCash()).isEqualTo(90);
+        Mockito.verify(tableService, Mockito.never()).getPlayerCards(ALICE_ID);
+    }
+
+    /**
+     * The table endpoints answer with the future of the mailbox, their response is only written by the async dispatch
+     */
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+    }
+
+    /**
+     * The stream pool, every test decides when its tasks run
+     */
+    @TestConfiguration
+    static class StreamExecutorConfig {
+
+        @Bean
+        Executor tableStreamExecutor() {
+            return Mockito.mock(Executor.class);
+        }
+    }
 }
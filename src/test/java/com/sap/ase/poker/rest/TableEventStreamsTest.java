@@ -0,0 +1,252 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableEventStreamsTest {
+
+    private static final String TABLE_ID = "table-1";
+    private static final int BUFFER_SIZE = 2;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TableViewCache tableViewCache = new TableViewCache(objectMapper, Mockito.mock(TableRegistry.class));
+    private final List<Runnable> tableTasks = new ArrayList<>();
+    private final List<Runnable> streamTasks = new ArrayList<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private TableService tableService;
+    private TableMailbox table;
+    private TableEventStreams underTest;
+
+    @BeforeEach
+    void setUp() {
+        tableService = new TableService(Mockito.mock(Supplier.class));
+        table = Mockito.spy(new TableMailbox(tableService, tableTasks::add));
+        underTest = createStreams(1000);
+    }
+
+    @Test
+    void subscribe_shouldSendCurrentTableAndEveryChange() {
+        RecordingEmitter emitter = subscribe(null);
+        run(streamTasks);
+        change("01");
+
+        assertThat(headersOf(emitter)).containsExactly(header(TableEventStreams.TABLE_EVENT, 1),
+                header(TableEventStreams.TABLE_EVENT, 2));
+        assertThat(emitter.events.get(1)).endsWith("data:" + new String(
+                tableViewCache.getView(TABLE_ID, tableService.getSnapshot(), "01"), StandardCharsets.UTF_8) + "\n\n");
+        assertThat(emitter.events.get(1)).contains("\"playerCards\":[]", "\"version\":2");
+    }
+
+    @Test
+    void subscribe_withIdOfLastEvent_shouldOnlySendLaterChanges() {
+        change("01");
+        RecordingEmitter upToDate = subscribe(tableViewCache.getEpoch() + "-2");
+        RecordingEmitter otherNode = subscribe("1a2b3c-2");
+        RecordingEmitter invalid = subscribe(tableViewCache.getEpoch() + "-two");
+        run(streamTasks);
+
+        assertThat(upToDate.events).isEmpty();
+        assertThat(headersOf(otherNode)).containsExactly(header(TableEventStreams.TABLE_EVENT, 2));
+        assertThat(headersOf(invalid)).containsExactly(header(TableEventStreams.TABLE_EVENT, 2));
+
+        change("02");
+
+        assertThat(headersOf(upToDate)).containsExactly(header(TableEventStreams.TABLE_EVENT, 3));
+    }
+
+    @Test
+    void slowStream_shouldGetResyncInsteadOfBufferedChanges() {
+        RecordingEmitter emitter = subscribe(null);
+
+        table.execute(tableService -> tableService.addPlayer("01", "Chendil"));
+        table.execute(tableService -> tableService.addPlayer("02", "Smitha"));
+        table.execute(tableService -> tableService.addPlayer("03", "Avik"));
+        run(tableTasks);
+        run(streamTasks);
+
+        assertThat(headersOf(emitter)).containsExactly(header(TableEventStreams.RESYNC_EVENT, 4));
+    }
+
+    @Test
+    void changesWhileSending_shouldBeSentByNextRun() {
+        RecordingEmitter emitter = subscribe(null);
+        emitter.onSend = () -> {
+            emitter.onSend = () -> {
+                emitter.onSend = null;
+                change("02");
+                change("03");
+                change("04");
+            };
+            change("01");
+        };
+        run(streamTasks);
+
+        assertThat(headersOf(emitter)).containsExactly(header(TableEventStreams.TABLE_EVENT, 1),
+                header(TableEventStreams.TABLE_EVENT, 2), header(TableEventStreams.RESYNC_EVENT, 5));
+    }
+
+    @Test
+    void failedSend_shouldEndStream() {
+        RecordingEmitter emitter = subscribe(null);
+        emitter.failure = new IOException("Broken pipe");
+        run(streamTasks);
+
+        change("01");
+
+        assertThat(emitter.events).isEmpty();
+        assertThat(emitter.completed).isTrue();
+        assertThat(streamTasks).isEmpty();
+    }
+
+    @Test
+    void close_shouldEndStreamsOfTable() {
+        RecordingEmitter emitter = subscribe(null);
+        run(streamTasks);
+
+        underTest.close(TABLE_ID);
+        underTest.close("unknown");
+        change("01");
+
+        assertThat(emitter.completed).isTrue();
+        assertThat(emitter.events).hasSize(1);
+        assertThat(streamTasks).isEmpty();
+    }
+
+    @Test
+    void stalledStream_shouldGetNoFurtherChangesAndEndOnceWriteReturns() {
+        underTest = createStreams(0);
+        RecordingEmitter emitter = subscribe(null);
+        emitter.onSend = () -> {
+            emitter.onSend = null;
+            change("01");
+        };
+        run(streamTasks);
+
+        assertThat(headersOf(emitter)).containsExactly(header(TableEventStreams.TABLE_EVENT, 1));
+        assertThat(emitter.completed).isTrue();
+
+        change("02");
+
+        assertThat(emitter.events).hasSize(1);
+        assertThat(streamTasks).isEmpty();
+    }
+
+    @Test
+    void lastEndedStream_shouldStopWatchingTable() {
+        RecordingEmitter first = subscribe(null);
+        RecordingEmitter second = subscribe(null);
+        run(streamTasks);
+
+        first.complete();
+        change("01");
+        second.complete();
+        change("02");
+        change("03");
+
+        Mockito.verify(table, Mockito.times(2)).watch(Mockito.anyLong());
+        assertThat(headersOf(second)).containsExactly(header(TableEventStreams.TABLE_EVENT, 1),
+                header(TableEventStreams.TABLE_EVENT, 2));
+
+        RecordingEmitter third = subscribe(null);
+        run(streamTasks);
+        change("04");
+
+        assertThat(headersOf(third)).containsExactly(header(TableEventStreams.TABLE_EVENT, 4),
+                header(TableEventStreams.TABLE_EVENT, 5));
+    }
+
+    private TableEventStreams createStreams(long writeTimeoutMillis) {
+        return new TableEventStreams(tableViewCache, streamTasks::add, BUFFER_SIZE, 1000, writeTimeoutMillis) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        underTest.subscribe(TABLE_ID, table, "01", lastEventId);
+        return emitters.get(emitters.size() - 1);
+    }
+
+    private void change(String playerId) {
+        table.execute(tableService -> tableService.addPlayer(playerId, "Player " + playerId));
+        run(tableTasks);
+        run(streamTasks);
+    }
+
+    private String header(String name, long version) {
+        return "id:" + tableViewCache.getEpoch() + "-" + version + "\nevent:" + name;
+    }
+
+    private static List<String> headersOf(RecordingEmitter emitter) {
+        return emitter.events.stream().map(event -> event.substring(0, event.indexOf("\ndata:")))
+                .collect(Collectors.toList());
+    }
+
+    private static void run(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    /**
+     * Records the events instead of writing them to a response and runs its completion callback on completion
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private Runnable completion;
+        private Runnable onSend;
+        private IOException failure;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            StringBuilder event = new StringBuilder();
+            builder.build().forEach(part -> event.append(part.getData() instanceof byte[]
+                    ? new String((byte[]) part.getData(), StandardCharsets.UTF_8) : part.getData()));
+            events.add(event.toString());
+            if (onSend != null) {
+                onSend.run();
+            }
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completion = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            completion.run();
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            complete();
+        }
+    }
+}
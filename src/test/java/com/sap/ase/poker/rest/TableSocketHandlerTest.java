@@ -0,0 +1,252 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import com.sap.ase.poker.model.deck.SimulationCardShuffler;
+import com.sap.ase.poker.service.TableMailbox;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.apache.tomcat.websocket.Constants;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import javax.websocket.Session;
+import java.io.IOException;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableSocketHandlerTest {
+
+    private static final String TABLE_ID = "table-1";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<Runnable> tableTasks = new ArrayList<>();
+    private final List<Runnable> streamTasks = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+    private final TableRegistry tableRegistry = Mockito.mock(TableRegistry.class);
+    private final WebSocketSession session = Mockito.mock(WebSocketSession.class);
+
+    private TableService tableService;
+    private TableSocketHandler underTest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tableService = new TableService(
+                new ShuffledDeckSupplier(new PokerCardsSupplier(), new SimulationCardShuffler()));
+        TableMailbox table = new TableMailbox(tableService, tableTasks::add);
+        Mockito.when(tableRegistry.getTable(TableRegistry.DEFAULT_TABLE_ID)).thenReturn(table);
+        Mockito.when(tableRegistry.getTable(TABLE_ID)).thenReturn(table);
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("01");
+        Mockito.when(session.getPrincipal()).thenReturn(principal);
+        Mockito.when(session.getAttributes()).thenReturn(new HashMap<>());
+        Mockito.when(session.getUri()).thenReturn(URI.create("ws://localhost/api/v1/socket"));
+        Mockito.when(session.isOpen()).thenReturn(true);
+        Mockito.doAnswer(invocation -> messages.add(invocation.<WebSocketMessage<String>>getArgument(0).getPayload()))
+                .when(session).sendMessage(Mockito.any());
+        underTest = new TableSocketHandler(tableRegistry, new TableViewCache(objectMapper, tableRegistry), objectMapper,
+                streamTasks::add, 1000, 1024 * 1024);
+    }
+
+    @Test
+    void connect_shouldSendWholeTableAndThenChangesSinceAcknowledgedVersion() throws Exception {
+        connect();
+
+        JsonNode first = lastMessage();
+        assertThat(first.get("baseVersion").asLong()).isZero();
+        assertThat(first.get("changes").get("version").asLong()).isEqualTo(1);
+        assertThat(first.get("changes").has("state")).isTrue();
+        assertThat(first.get("changes").has("pot")).isTrue();
+
+        receive("{\"ack\":1}");
+        change("01");
+
+        JsonNode second = lastMessage();
+        assertThat(second.get("baseVersion").asLong()).isEqualTo(1);
+        assertThat(second.get("changes").get("version").asLong()).isEqualTo(2);
+        assertThat(second.get("changes").get("players").get("size").asInt()).isEqualTo(1);
+        assertThat(second.get("changes").has("state")).isFalse();
+        assertThat(second.get("changes").has("pot")).isFalse();
+
+        change("02");
+
+        JsonNode third = lastMessage();
+        assertThat(third.get("baseVersion").asLong()).isEqualTo(1);
+        assertThat(third.get("changes").get("players").get("size").asInt()).isEqualTo(2);
+        assertThat(third.get("changes").get("players").get("1").get("id").asText()).isEqualTo("02");
+        assertThat(messages).hasSize(3);
+    }
+
+    @Test
+    void connect_addressesTableOfPath() {
+        Mockito.when(session.getUri()).thenReturn(URI.create("ws://localhost/api/v1/tables/" + TABLE_ID + "/socket"));
+
+        connect();
+
+        Mockito.verify(tableRegistry).getTable(TABLE_ID);
+        assertThat(messages).hasSize(1);
+    }
+
+    @Test
+    void ack_ofUnknownVersion_keepsBase() throws Exception {
+        connect();
+        for (int player = 1; player <= 17; player++) {
+            change("0" + player);
+        }
+
+        receive("{\"ack\":2}");
+        receive("{\"ack\":99}");
+        change("18");
+        assertThat(lastMessage().get("baseVersion").asLong()).isZero();
+
+        receive("{\"ack\":4}");
+        change("19");
+        assertThat(lastMessage().get("baseVersion").asLong()).isEqualTo(4);
+    }
+
+    @Test
+    void action_isPerformedOnTable() throws Exception {
+        tableService.addPlayer("01", "Chendil");
+        tableService.addPlayer("02", "Smitha");
+        tableService.start();
+        connect();
+        String currentPlayer = lastMessage().get("changes").get("currentPlayer").get("id").asText();
+
+        receive("{\"action\":{\"type\":\"raise\",\"args\":[10]}}");
+        run(tableTasks);
+        run(streamTasks);
+
+        assertThat(lastMessage().get("changes").get("bets").get(currentPlayer).asInt()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectedAction_isAnsweredWithError() throws Exception {
+        connect();
+
+        receive("{\"action\":{\"type\":\"check\"}}");
+        receive("{\"action\":{\"type\":\"check\",\"args\":[]}}");
+        run(tableTasks);
+        run(streamTasks);
+
+        assertThat(lastMessage().get("error").asText()).isNotEmpty();
+        assertThat(messages).hasSize(3);
+    }
+
+    @Test
+    void invalidMessage_isAnsweredWithError() throws Exception {
+        connect();
+
+        receive("{\"ack\":\"first\"}");
+        receive("{}");
+        run(streamTasks);
+
+        assertThat(lastMessage().get("error").asText()).isNotEmpty();
+        assertThat(messages).hasSize(2);
+    }
+
+    @Test
+    void failedSend_closesSessionAndStopsWatching() throws Exception {
+        Mockito.doThrow(new IOException("Broken pipe")).when(session).sendMessage(Mockito.any());
+
+        connect();
+        change("01");
+
+        Mockito.verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(streamTasks).isEmpty();
+    }
+
+    @Test
+    void failedSend_toSessionGoneAlready_stopsWatching() throws Exception {
+        Mockito.doThrow(new IOException("Broken pipe")).when(session).sendMessage(Mockito.any());
+        Mockito.doThrow(new IOException("Broken pipe")).when(session).close(Mockito.any());
+
+        connect();
+        change("01");
+
+        assertThat(streamTasks).isEmpty();
+    }
+
+    @Test
+    void close_stopsWatching() throws Exception {
+        connect();
+
+        underTest.afterConnectionClosed(session, CloseStatus.NORMAL);
+        change("01");
+
+        assertThat(messages).hasSize(1);
+        Mockito.when(session.getAttributes()).thenReturn(new HashMap<>());
+        underTest.afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+
+    @Test
+    void connect_withNativeSession_shouldLimitBlockingSends() {
+        NativeWebSocketSession nativeSession = Mockito.mock(NativeWebSocketSession.class);
+        Session tomcatSession = Mockito.mock(Session.class);
+        HashMap<String, Object> userProperties = new HashMap<>();
+        Mockito.when(tomcatSession.getUserProperties()).thenReturn(userProperties);
+        Mockito.when(nativeSession.getNativeSession(Session.class)).thenReturn(tomcatSession);
+        mockSessionLike(nativeSession);
+
+        underTest.afterConnectionEstablished(nativeSession);
+
+        assertThat(userProperties).containsEntry(Constants.BLOCKING_SEND_TIMEOUT_PROPERTY, 1000L);
+    }
+
+    @Test
+    void connect_withoutTomcatSession_shouldStillConnect() {
+        NativeWebSocketSession nativeSession = Mockito.mock(NativeWebSocketSession.class);
+        mockSessionLike(nativeSession);
+
+        underTest.afterConnectionEstablished(nativeSession);
+
+        assertThat(nativeSession.getAttributes()).isNotEmpty();
+    }
+
+    private void mockSessionLike(WebSocketSession other) {
+        Principal principal = session.getPrincipal();
+        Mockito.when(other.getPrincipal()).thenReturn(principal);
+        Mockito.when(other.getAttributes()).thenReturn(new HashMap<>());
+        Mockito.when(other.getUri()).thenReturn(URI.create("ws://localhost/api/v1/socket"));
+    }
+
+    private void connect() {
+        underTest.afterConnectionEstablished(session);
+        run(tableTasks);
+        run(streamTasks);
+    }
+
+    private void receive(String payload) throws Exception {
+        underTest.handleMessage(session, new TextMessage(payload));
+    }
+
+    private void change(String playerId) {
+        tableRegistry.getTable(TableRegistry.DEFAULT_TABLE_ID)
+                .execute(tableService -> tableService.addPlayer(playerId, "Player " + playerId));
+        run(tableTasks);
+        run(streamTasks);
+    }
+
+    private JsonNode lastMessage() throws Exception {
+        return objectMapper.readTree(messages.get(messages.size() - 1));
+    }
+
+    private static void run(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.sap.ase.poker.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.ase.poker.dto.GetTableResponseDto;
+import com.sap.ase.poker.model.GameState;
+import com.sap.ase.poker.model.deck.Card;
+import com.sap.ase.poker.model.deck.Deck;
+import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.service.TableRegistry;
+import com.sap.ase.poker.service.TableService;
+import com.sap.ase.poker.service.TableSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableViewCacheTest {
+
+    private static final String TABLE_ID = "table-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final TableRegistry tableRegistry = Mockito.mock(TableRegistry.class);
+
+    private final TableViewCache underTest = new TableViewCache(objectMapper, tableRegistry);
+
+    private TableService table;
+
+    @BeforeEach
+    void setUp() {
+        Deck deck = Mockito.mock(Deck.class);
+        Mockito.when(deck.draw()).thenReturn(
+                new Card(Kind.ACE, Suit.SPADES), new Card(Kind.KING, Suit.SPADES),
+                new Card(Kind.TWO, Suit.HEARTS), new Card(Kind.SEVEN, Suit.CLUBS));
+        Mockito.when(tableRegistry.isOpen(TABLE_ID)).thenReturn(true);
+        table = new TableService(() -> deck);
+        table.addPlayer("01", "Chendil \"playerCards\":[]");
+        table.addPlayer("02", "Smitha");
+        table.start();
+    }
+
+    @Test
+    void getView_shouldEqualSerializedStatusOfPlayer() throws IOException {
+        TableSnapshot snapshot = table.getSnapshot();
+
+        for (String playerId : new String[]{"01", "02", "spectator"}) {
+            byte[] view = underTest.getView(TABLE_ID, snapshot, playerId);
+
+            assertThat(view).isEqualTo(objectMapper.writeValueAsBytes(underTest.toDto(snapshot, playerId)));
+        }
+        GetTableResponseDto status = objectMapper.readValue(underTest.getView(TABLE_ID, snapshot, "01"),
+                GetTableResponseDto.class);
+        assertThat(status.getPlayerCards()).extracting("rank").containsExactly("ace", "king");
+        assertThat(status.getPlayers().get(0).getName()).isEqualTo("Chendil \"playerCards\":[]");
+        assertThat(status.getState()).isEqualTo(GameState.PRE_FLOP.getValue());
+    }
+
+    @Test
+    void getView_shouldBeServedFromCacheUntilVersionChanges() {
+        TableSnapshot snapshot = table.getSnapshot();
+        byte[] publicView = underTest.getView(TABLE_ID, snapshot, "spectator");
+        byte[] playerView = underTest.getView(TABLE_ID, snapshot, "01");
+
+        assertThat(underTest.getView(TABLE_ID, snapshot, "other spectator")).isSameAs(publicView);
+        assertThat(underTest.getView(TABLE_ID, snapshot, "01")).isSameAs(playerView);
+
+        table.performAction("check", 0);
+        TableSnapshot next = table.getSnapshot();
+        byte[] nextPlayerView = underTest.getView(TABLE_ID, next, "01");
+
+        assertThat(nextPlayerView).isNotSameAs(playerView);
+        assertThat(underTest.getView(TABLE_ID, next, "01")).isSameAs(nextPlayerView);
+        assertThat(underTest.getView("table-2", snapshot, "01")).isNotSameAs(playerView).isEqualTo(playerView);
+    }
+
+    @Test
+    void getChanges_shouldContainFieldsOfViewOfPlayerChangedSinceBase() throws IOException {
+        TableSnapshot snapshot = table.getSnapshot();
+        TableSnapshot base = table.getSnapshot(snapshot.getVersion() - 1).get();
+
+        byte[] changes = underTest.getChanges(TABLE_ID, snapshot, base, "01");
+
+        JsonNode delta = objectMapper.readTree(changes);
+        assertThat(delta.get("baseVersion").asLong()).isEqualTo(base.getVersion());
+        assertThat(delta.get("changes").get("version").asLong()).isEqualTo(snapshot.getVersion());
+        assertThat(delta.get("changes").get("state").asInt()).isEqualTo(GameState.PRE_FLOP.getValue());
+        assertThat(delta.get("changes").get("playerCards").get("size").asInt()).isEqualTo(2);
+        assertThat(delta.get("changes").has("winner")).isFalse();
+        assertThat(underTest.getChanges(TABLE_ID, snapshot, base, "01")).isSameAs(changes);
+        assertThat(objectMapper.readTree(underTest.getChanges(TABLE_ID, snapshot, snapshot, "01")).get("changes"))
+                .isEmpty();
+    }
+
+    @Test
+    void getChanges_withoutBase_shouldBeWholeView() throws IOException {
+        TableSnapshot snapshot = table.getSnapshot();
+
+        JsonNode delta = objectMapper.readTree(underTest.getChanges(TABLE_ID, snapshot, null, "02"));
+
+        assertThat(delta.get("baseVersion").asLong()).isZero();
+        assertThat(delta.get("changes"))
+                .isEqualTo(objectMapper.readTree(underTest.getView(TABLE_ID, snapshot, "02")));
+    }
+
+    @Test
+    void diff_shouldContainChangedAndRemovedFields() throws IOException {
+        JsonNode base = objectMapper.readTree("{\"pot\":10,\"state\":\"open\",\"winner\":{\"id\":\"01\"}}");
+        JsonNode view = objectMapper.readTree("{\"pot\":20,\"state\":\"open\",\"bets\":{}}");
+
+        assertThat(TableViewCache.diff(base, view))
+                .isEqualTo(objectMapper.readTree("{\"pot\":20,\"bets\":{},\"winner\":null}"));
+    }
+
+    @Test
+    void diff_shouldOnlyContainChangedEntriesOfObjectsAndLists() throws IOException {
+        JsonNode base = objectMapper.readTree("{\"bets\":{\"01\":10,\"02\":20,\"03\":5},"
+                + "\"players\":[{\"id\":\"01\",\"cash\":90},{\"id\":\"02\",\"cash\":80}],\"cards\":[1,2,3],"
+                + "\"winner\":{\"id\":\"01\"}}");
+        JsonNode view = objectMapper.readTree("{\"bets\":{\"01\":10,\"02\":40},"
+                + "\"players\":[{\"id\":\"01\",\"cash\":90},{\"id\":\"02\",\"cash\":60},{\"id\":\"03\"}],"
+                + "\"cards\":[1],\"winner\":null}");
+
+        assertThat(TableViewCache.diff(base, view)).isEqualTo(objectMapper.readTree(
+                "{\"bets\":{\"02\":40,\"03\":null},\"players\":{\"1\":{\"cash\":60},\"2\":{\"id\":\"03\"},\"size\":3},"
+                        + "\"cards\":{\"size\":1},\"winner\":null}"));
+    }
+
+    @Test
+    void versionOf_shouldOnlyAcceptTokensOfThisEpoch() {
+        TableSnapshot snapshot = table.getSnapshot();
+
+        assertThat(underTest.versionOf(underTest.getToken(snapshot))).hasValue(snapshot.getVersion());
+        assertThat(underTest.versionOf("1a2b3c-" + snapshot.getVersion())).isEmpty();
+        assertThat(underTest.versionOf(underTest.getEpoch() + "-two")).isEmpty();
+        assertThat(underTest.versionOf(null)).isEmpty();
+    }
+
+    @Test
+    void getETag_shouldDifferPerVersionAndPlayerWithCards() {
+        TableSnapshot snapshot = table.getSnapshot();
+        String first = underTest.getETag(snapshot, "01");
+
+        assertThat(first).startsWith("\"").endsWith("-" + snapshot.getVersion() + "-0\"");
+        assertThat(underTest.getETag(snapshot, "01")).isEqualTo(first);
+        assertThat(underTest.getETag(snapshot, "02")).isNotEqualTo(first).endsWith("-1\"");
+        assertThat(underTest.getETag(snapshot, "spectator")).endsWith("-" + snapshot.getVersion() + "\"")
+                .isEqualTo(underTest.getETag(snapshot, "other spectator"));
+
+        table.performAction("check", 0);
+        assertThat(underTest.getETag(table.getSnapshot(), "01")).isNotEqualTo(first);
+    }
+
+    @Test
+    void recordPoll_shouldCountPollsAndNotModifiedPolls() {
+        underTest.recordPoll(true);
+        underTest.recordPoll(false);
+        underTest.recordPoll(true);
+
+        assertThat(underTest.getPolls()).isEqualTo(3);
+        assertThat(underTest.getNotModifiedPolls()).isEqualTo(2);
+    }
+
+    @Test
+    void getView_ofOlderSnapshot_shouldMatchItsVersionAndKeepNewerViewsCached() throws IOException {
+        TableSnapshot older = table.getSnapshot();
+        table.performAction("check", 0);
+        TableSnapshot newer = table.getSnapshot();
+        byte[] newerView = underTest.getView(TABLE_ID, newer, "01");
+
+        byte[] olderView = underTest.getView(TABLE_ID, older, "01");
+
+        assertThat(olderView).isEqualTo(objectMapper.writeValueAsBytes(underTest.toDto(older, "01")));
+        assertThat(objectMapper.readValue(olderView, GetTableResponseDto.class).getVersion())
+                .isEqualTo(older.getVersion());
+        assertThat(underTest.getView(TABLE_ID, newer, "01")).isSameAs(newerView);
+    }
+
+    @Test
+    void evict_shouldDropViewsOfTable() {
+        TableSnapshot snapshot = table.getSnapshot();
+        byte[] publicView = underTest.getView(TABLE_ID, snapshot, "spectator");
+
+        underTest.evict(TABLE_ID);
+
+        assertThat(underTest.getView(TABLE_ID, snapshot, "spectator")).isNotSameAs(publicView).isEqualTo(publicView);
+    }
+
+    @Test
+    void getView_ofClosedTable_shouldNotBeCached() {
+        TableSnapshot snapshot = table.getSnapshot();
+        Mockito.when(tableRegistry.isOpen(TABLE_ID)).thenReturn(false);
+
+        byte[] publicView = underTest.getView(TABLE_ID, snapshot, "spectator");
+
+        assertThat(underTest.getView(TABLE_ID, snapshot, "spectator")).isNotSameAs(publicView).isEqualTo(publicView);
+    }
+}
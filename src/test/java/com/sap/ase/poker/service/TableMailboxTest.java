@@ -0,0 +1,182 @@
+package com.sap.ase.poker.service;
+
+import com.sap.ase.poker.model.IllegalActionException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TableMailboxTest {
+
+    private final TableService table = Mockito.mock(TableService.class);
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    private final TableMailbox underTest = new TableMailbox(table, scheduled::add);
+
+    @Test
+    void submit_shouldRunCommandOnExecutorAndCompleteWithResult() {
+        Mockito.when(table.getPot()).thenReturn(42);
+
+        CompletableFuture<Integer> pot = underTest.submit(TableService::getPot);
+
+        assertThat(pot).isNotDone();
+        runScheduled();
+        assertThat(pot).isCompletedWithValue(42);
+    }
+
+    @Test
+    void submit_whenCommandThrows_shouldCompleteExceptionallyAndKeepRunning() {
+        Mockito.doThrow(new IllegalActionException("Action is Invalid")).when(table).performAction("bet", 0);
+
+        CompletableFuture<Void> action = underTest.execute(tableService -> tableService.performAction("bet", 0));
+        CompletableFuture<Void> start = underTest.execute(TableService::start);
+        runScheduled();
+
+        assertThatThrownBy(action::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalActionException.class);
+        assertThat(start).isCompleted();
+        Mockito.verify(table).start();
+    }
+
+    @Test
+    void commands_shouldBeScheduledOnceAndRunInBatches() {
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < TableMailbox.BATCH_SIZE + 1; i++) {
+            results.add(underTest.execute(TableService::start));
+        }
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.remove(0).run();
+
+        assertThat(results.subList(0, TableMailbox.BATCH_SIZE)).allMatch(CompletableFuture::isDone);
+        assertThat(results.get(TableMailbox.BATCH_SIZE)).isNotDone();
+        assertThat(scheduled).hasSize(1);
+        runScheduled();
+        assertThat(results.get(TableMailbox.BATCH_SIZE)).isDone();
+    }
+
+    @Test
+    void commandsFromManyThreads_shouldRunOneAfterAnother() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        TableMailbox mailbox = new TableMailbox(table, executor);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            results.add(CompletableFuture.runAsync(() -> results.size(), executor)
+                    .thenCompose(ignored -> mailbox.execute(tableService -> {
+                        if (running.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        running.decrementAndGet();
+                    })));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(overlaps).hasValue(0);
+    }
+
+    @Test
+    void watch_withOtherVersion_shouldCompleteRightAway() {
+        TableService realTable = new TableService(Mockito.mock(Supplier.class));
+        TableMailbox mailbox = new TableMailbox(realTable, scheduled::add);
+
+        assertThat(mailbox.watch(0)).isCompletedWithValue(realTable.getSnapshot());
+        assertThat(mailbox.getSnapshot()).isSameAs(realTable.getSnapshot());
+        assertThat(mailbox.getSnapshot(1)).containsSame(realTable.getSnapshot());
+    }
+
+    @Test
+    void watch_withCurrentVersion_shouldCompleteWithNextChange() {
+        TableService realTable = new TableService(Mockito.mock(Supplier.class));
+        TableMailbox mailbox = new TableMailbox(realTable, scheduled::add);
+        long version = realTable.getSnapshot().getVersion();
+        mailbox.watch(version).cancel(false);
+
+        CompletableFuture<TableSnapshot> change = mailbox.watch(version);
+        mailbox.execute(tableService -> tableService.getPlayers());
+        runScheduled();
+        assertThat(change).isNotDone();
+
+        mailbox.execute(tableService -> tableService.addPlayer("01", "Chendil"));
+        runScheduled();
+        assertThat(change).isCompletedWithValue(realTable.getSnapshot());
+        assertThat(change.join().getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void watch_fromCompletedWatcher_shouldWaitForNextChange() {
+        TableService realTable = new TableService(Mockito.mock(Supplier.class));
+        TableMailbox mailbox = new TableMailbox(realTable, scheduled::add);
+        List<CompletableFuture<TableSnapshot>> next = new ArrayList<>();
+        mailbox.watch(realTable.getSnapshot().getVersion())
+                .thenAccept(snapshot -> next.add(mailbox.watch(snapshot.getVersion())));
+
+        mailbox.execute(tableService -> tableService.addPlayer("01", "Chendil"));
+        runScheduled();
+        assertThat(next).hasSize(1);
+        assertThat(next.get(0)).isNotDone();
+
+        mailbox.execute(tableService -> tableService.addPlayer("02", "Smitha"));
+        runScheduled();
+        assertThat(next.get(0)).isCompletedWithValue(realTable.getSnapshot());
+    }
+
+    @Test
+    void watch_fromCompletedWatcherDroppingCancelledOnes_shouldNotStopMailbox() {
+        TableService realTable = new TableService(Mockito.mock(Supplier.class));
+        TableMailbox mailbox = new TableMailbox(realTable, scheduled::add);
+        long version = realTable.getSnapshot().getVersion();
+        List<CompletableFuture<TableSnapshot>> next = new ArrayList<>();
+        CompletableFuture<TableSnapshot> first = mailbox.watch(version);
+        first.thenAccept(snapshot -> next.add(mailbox.watch(snapshot.getVersion())));
+        mailbox.watch(version).cancel(false);
+        mailbox.watch(version).cancel(false);
+
+        mailbox.execute(tableService -> tableService.addPlayer("01", "Chendil"));
+        runScheduled();
+
+        assertThat(first).isCompletedWithValue(realTable.getSnapshot());
+        assertThat(next.get(0)).isNotDone();
+        CompletableFuture<Void> later = mailbox.execute(tableService -> tableService.addPlayer("02", "Smitha"));
+        runScheduled();
+        assertThat(later).isCompleted();
+        assertThat(next.get(0)).isCompletedWithValue(realTable.getSnapshot());
+    }
+
+    @Test
+    void failingNotification_shouldNotStopMailbox() {
+        Mockito.when(table.getSnapshot()).thenThrow(new IllegalStateException("No snapshot")).thenReturn(null);
+
+        CompletableFuture<Void> first = underTest.execute(TableService::start);
+        CompletableFuture<Void> second = underTest.execute(TableService::start);
+        runScheduled();
+        CompletableFuture<Void> third = underTest.execute(TableService::start);
+        runScheduled();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isCompleted();
+        Mockito.verify(table, Mockito.times(3)).start();
+    }
+
+    private void runScheduled() {
+        while (!scheduled.isEmpty()) {
+            scheduled.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.sap.ase.poker.service;
+
+import com.sap.ase.poker.model.IllegalActionException;
+import com.sap.ase.poker.model.deck.Deck;
+import com.sap.ase.poker.model.deck.DeckSuppliers;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TableRegistryTest {
+
+    private TableService defaultTable;
+
+    private Supplier<Deck> defaultDecks;
+
+    private TableRegistry underTest;
+
+    @BeforeEach
+    void setUp() {
+        defaultTable = Mockito.mock(TableService.class);
+        defaultDecks = Mockito.mock(Supplier.class);
+        underTest = new TableRegistry(defaultTable,
+                new DeckSuppliers(new PokerCardsSupplier(), defaultDecks, DeckSuppliers.SECURE), Runnable::run, 3, 2);
+    }
+
+    @Test
+    void getTable_withDefaultId_returnsDefaultTable() {
+        assertThat(underTest.getTable(TableRegistry.DEFAULT_TABLE_ID).submit(table -> table).join())
+                .isSameAs(defaultTable);
+        assertThat(underTest.getTableIds()).containsExactly(TableRegistry.DEFAULT_TABLE_ID);
+    }
+
+    @Test
+    void createTable_addsIndependentTable() {
+        String first = underTest.createTable("alice", null);
+        String second = underTest.createTable("alice", null);
+
+        assertThat(first).isNotEqualTo(second);
+        TableService firstTable = underTest.getTable(first).submit(table -> table).join();
+        TableService secondTable = underTest.getTable(second).submit(table -> table).join();
+        assertThat(firstTable).isNotSameAs(secondTable).isNotSameAs(defaultTable);
+        firstTable.addPlayer("01", "Chendil");
+        assertThat(secondTable.getPlayers()).isEmpty();
+        assertThat(underTest.getTableIds()).containsExactlyInAnyOrder(TableRegistry.DEFAULT_TABLE_ID, first, second);
+    }
+
+    @Test
+    void createTable_withShuffler_dealsWithIt() {
+        String tableId = underTest.createTable("alice", DeckSuppliers.SIMULATION);
+        TableService table = underTest.getTable(tableId).submit(tableService -> tableService).join();
+        table.addPlayer("01", "Chendil");
+        table.addPlayer("02", "Smitha");
+
+        table.start();
+
+        assertThat(table.getHandSeed()).isPresent();
+        Mockito.verifyNoInteractions(defaultDecks);
+    }
+
+    @Test
+    void createTable_withUnknownShuffler_shouldThrow() {
+        assertThatThrownBy(() -> underTest.createTable("alice", "dealer")).isInstanceOf(IllegalActionException.class);
+        assertThat(underTest.getTableIds()).containsExactly(TableRegistry.DEFAULT_TABLE_ID);
+    }
+
+    @Test
+    void closeTable_removesTable() {
+        String tableId = underTest.createTable("alice", null);
+
+        underTest.closeTable(tableId, "alice");
+
+        assertThat(underTest.isOpen(tableId)).isFalse();
+        assertThatThrownBy(() -> underTest.getTable(tableId)).isInstanceOf(TableNotFoundException.class);
+        assertThatThrownBy(() -> underTest.closeTable(tableId, "alice")).isInstanceOf(TableNotFoundException.class);
+    }
+
+    @Test
+    void closeTable_withDefaultId_shouldThrow() {
+        assertThatThrownBy(() -> underTest.closeTable(TableRegistry.DEFAULT_TABLE_ID, "alice"))
+                .isInstanceOf(IllegalActionException.class);
+        assertThat(underTest.isOpen(TableRegistry.DEFAULT_TABLE_ID)).isTrue();
+    }
+
+    @Test
+    void closeTable_byOtherUser_shouldThrow() {
+        String tableId = underTest.createTable("alice", null);
+
+        assertThatThrownBy(() -> underTest.closeTable(tableId, "bob")).isInstanceOf(NotTableCreatorException.class);
+        assertThat(underTest.isOpen(tableId)).isTrue();
+    }
+
+    @Test
+    void createTable_beyondLimits_shouldThrow() {
+        String first = underTest.createTable("alice", null);
+        underTest.createTable("alice", null);
+
+        assertThatThrownBy(() -> underTest.createTable("alice", null)).isInstanceOf(TableLimitExceededException.class);
+        underTest.createTable("bob", null);
+        assertThatThrownBy(() -> underTest.createTable("carol", null)).isInstanceOf(TableLimitExceededException.class);
+
+        underTest.closeTable(first, "alice");
+        underTest.createTable("alice", null);
+        assertThat(underTest.getTableIds()).hasSize(4);
+    }
+}
@@ -10,7 +10,14 @@ import com.sap.ase.poker.model.Player;
 import com.sap.ase.poker.model.deck.Card;
 import com.sap.ase.poker.model.deck.Deck;
 import com.sap.ase.poker.model.deck.Kind;
+import com.sap.ase.poker.model.deck.PokerCardsSupplier;
+import com.sap.ase.poker.model.deck.ShuffledDeckSupplier;
+import com.sap.ase.poker.model.deck.SimulationCardShuffler;
 import com.sap.ase.poker.model.deck.Suit;
+import com.sap.ase.poker.model.hands.Flush;
+import com.sap.ase.poker.model.hands.HighCard;
+import com.sap.ase.poker.model.hands.Pair;
+import com.sap.ase.poker.model.hands.ThreeOfAKind;
 import com.sap.ase.poker.model.rules.WinnerRules;
 import com.sap.ase.poker.model.rules.Winners;
 import org.assertj.core.api.Assertions;
@@ -566,14 +573,228 @@ class TableServiceTest {
         tableService.performAction("check", 0);
         tableService.performAction("check", 0);
         tableService.performAction("raise", 10);
-        Mockito.when(card.getSuit()).thenReturn(Suit.DIAMONDS);
-        Mockito.when(card.getKind()).thenReturn(Kind.JACK);
         tableService.performAction("call", 0);
         assertThat(tableService.getState()).isEqualTo(GameState.ENDED);
         Assertions.assertThat(tableService.getWinnerHand()).isNotEmpty();
 
     }
 
+    @Test
+    void deckShouldBeTakenOncePerTableAndShuffledForFurtherHands() {
+        setupForStartGame();
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+
+        tableService.start();
+
+        Mockito.verify(deckSupplier, Mockito.times(1)).get();
+        Mockito.verify(deck, Mockito.times(1)).shuffle();
+        Mockito.verify(deck, Mockito.times(11)).draw();
+    }
+
+    @Test
+    void withHandSeeds_everyHandShouldBeShuffledWithItsSeed() {
+        tableService = new TableService(deckSupplier, () -> 42L);
+        setupForStartGame();
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+
+        tableService.start();
+
+        Mockito.verify(deckSupplier, Mockito.times(1)).get();
+        Mockito.verify(deck, Mockito.times(2)).shuffle(42L);
+        Mockito.verify(deck, Mockito.never()).shuffle();
+    }
+
+    @Test
+    void replayWithRecordedHandSeedShouldDealSameCards() {
+        Supplier<Deck> shuffledDeckSupplier =
+                new ShuffledDeckSupplier(new PokerCardsSupplier(), new SimulationCardShuffler());
+        TableService recorded = new TableService(shuffledDeckSupplier);
+        assertThat(recorded.getHandSeed()).isEmpty();
+        playToFlop(recorded);
+        long handSeed = recorded.getHandSeed().getAsLong();
+
+        TableService replayed = new TableService(shuffledDeckSupplier, () -> handSeed);
+        playToFlop(replayed);
+
+        assertThat(replayed.getHandSeed()).hasValue(handSeed);
+        assertThat(replayed.getPlayerCards("01")).isEqualTo(recorded.getPlayerCards("01"));
+        assertThat(replayed.getPlayerCards("02")).isEqualTo(recorded.getPlayerCards("02"));
+        assertThat(replayed.getCommunityCards()).hasSize(3).isEqualTo(recorded.getCommunityCards());
+    }
+
+    private void playToFlop(TableService table) {
+        table.addPlayer("01", "Chendil");
+        table.addPlayer("02", "Smitha");
+        table.start();
+        table.performAction("check", 0);
+        table.performAction("check", 0);
+    }
+
+    @Test
+    void handStatesShouldFollowCommunityCards() {
+        tableService.addPlayer("01", "Chendil");
+        tableService.addPlayer("02", "Smitha");
+        Mockito.when(deckSupplier.get()).thenReturn(deck);
+        Mockito.when(deck.draw()).thenReturn(
+                new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS),
+                new Card(Kind.KING, Suit.SPADES), new Card(Kind.QUEEN, Suit.SPADES),
+                new Card(Kind.TWO, Suit.SPADES), new Card(Kind.SEVEN, Suit.SPADES), new Card(Kind.NINE, Suit.CLUBS),
+                new Card(Kind.FOUR, Suit.SPADES),
+                new Card(Kind.ACE, Suit.CLUBS));
+        assertThat(tableService.getHandState("01")).isNotPresent();
+
+        tableService.start();
+        assertThat(tableService.getHandState("01").get().getCategory()).isEqualTo(Pair.PAIR_RANK);
+        assertThat(tableService.getHandState("02").get().getCategory()).isEqualTo(HighCard.HIGH_CARD_RANK);
+
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        assertThat(tableService.getState()).isEqualTo(GameState.FLOP);
+        assertThat(tableService.getHandState("01").get().getBestHand().get()).isInstanceOf(Pair.class);
+
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        assertThat(tableService.getState()).isEqualTo(GameState.TURN);
+        assertThat(tableService.getHandState("02").get().getBestHand().get()).isInstanceOf(Flush.class);
+
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("raise", 10);
+        tableService.performAction("call", 0);
+        assertThat(tableService.getState()).isEqualTo(GameState.ENDED);
+        assertThat(tableService.getHandState("01").get().getCategory()).isEqualTo(ThreeOfAKind.THREE_OF_A_KIND_RANK);
+        assertThat(tableService.getWinner().get().getId()).isEqualTo("02");
+    }
+
+    @Test
+    void showdownShouldIgnoreFoldedPlayers() {
+        tableService.addPlayer("01", "Chendil");
+        tableService.addPlayer("02", "Smitha");
+        tableService.addPlayer("03", "Avik");
+        Mockito.when(deckSupplier.get()).thenReturn(deck);
+        Mockito.when(deck.draw()).thenReturn(
+                new Card(Kind.TWO, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.KING, Suit.SPADES), new Card(Kind.QUEEN, Suit.HEARTS),
+                new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS),
+                new Card(Kind.THREE, Suit.CLUBS), new Card(Kind.EIGHT, Suit.DIAMONDS), new Card(Kind.NINE, Suit.CLUBS),
+                new Card(Kind.FOUR, Suit.DIAMONDS),
+                new Card(Kind.JACK, Suit.CLUBS));
+        tableService.start();
+
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("fold", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+        tableService.performAction("check", 0);
+
+        assertThat(tableService.getState()).isEqualTo(GameState.ENDED);
+        assertThat(tableService.getHandState("03").get().getStrength())
+                .isGreaterThan(tableService.getHandState("02").get().getStrength());
+        assertThat(tableService.getWinner().get().getId()).isEqualTo("02");
+    }
+
+    @Test
+    void showdownShouldIgnorePlayersWhoJoinedDuringTheHand() {
+        tableService.addPlayer("01", "Chendil");
+        tableService.addPlayer("02", "Smitha");
+        Mockito.when(deckSupplier.get()).thenReturn(deck);
+        Mockito.when(deck.draw()).thenReturn(
+                new Card(Kind.TWO, Suit.SPADES), new Card(Kind.SEVEN, Suit.HEARTS),
+                new Card(Kind.ACE, Suit.SPADES), new Card(Kind.ACE, Suit.HEARTS),
+                new Card(Kind.THREE, Suit.CLUBS), new Card(Kind.EIGHT, Suit.DIAMONDS), new Card(Kind.NINE, Suit.CLUBS),
+                new Card(Kind.FOUR, Suit.DIAMONDS),
+                new Card(Kind.JACK, Suit.CLUBS));
+        tableService.start();
+        tableService.addPlayer("03", "Avik");
+
+        for (int action = 0; action < 8; action++) {
+            tableService.performAction("check", 0);
+        }
+
+        assertThat(tableService.getState()).isEqualTo(GameState.ENDED);
+        assertThat(tableService.getHandState("03")).isEmpty();
+        assertThat(tableService.getWinner().get().getId()).isEqualTo("02");
+        assertThat(tableService.getSnapshot().getState()).isEqualTo(GameState.ENDED);
+        assertThat(tableService.getSnapshot().getWinner().get().getId()).isEqualTo("02");
+    }
+
+    @Test
+    void snapshotShouldBePublishedWithNextVersionAfterEveryChange() {
+        assertThat(tableService.getSnapshot().getVersion()).isEqualTo(1);
+        assertThat(tableService.getSnapshot().getState()).isEqualTo(GameState.OPEN);
+
+        setupForStartGame();
+        TableSnapshot started = tableService.getSnapshot();
+        tableService.addPlayer(firstPlayerId, "Chendil");
+        Assertions.assertThatThrownBy(() -> tableService.performAction("check", 10))
+                .isInstanceOf(IllegalAmountException.class);
+        assertThat(tableService.getSnapshot()).isSameAs(started);
+        assertThat(started.getVersion()).isEqualTo(4);
+        assertThat(started.getState()).isEqualTo(GameState.PRE_FLOP);
+        assertThat(started.getCurrentPlayer().get().getId()).isEqualTo(firstPlayerId);
+
+        tableService.performAction("raise", 10);
+        assertThat(tableService.getSnapshot().getVersion()).isEqualTo(5);
+        assertThat(tableService.getSnapshot().getBets()).containsEntry(firstPlayerId, 10);
+
+        tableService.performAction("fold", 0);
+        TableSnapshot ended = tableService.getSnapshot();
+        assertThat(ended.getVersion()).isEqualTo(6);
+        assertThat(ended.getState()).isEqualTo(GameState.ENDED);
+        assertThat(ended.getWinner().get().getId()).isEqualTo(firstPlayerId);
+        assertThat(ended.getWinnerHand()).isEmpty();
+    }
+
+    @Test
+    void snapshotShouldNotChangeWithLaterActions() {
+        setupForStartGame();
+        TableSnapshot started = tableService.getSnapshot();
+
+        tableService.performAction("raise", 10);
+        tableService.performAction("call", 0);
+
+        assertThat(started.getPot()).isZero();
+        assertThat(started.getCommunityCards()).isEmpty();
+        assertThat(started.getBets()).containsEntry(firstPlayerId, 0);
+        TableSnapshot.Seat first = started.getPlayers().get(0);
+        assertThat(first.getName()).isEqualTo("Chendil");
+        assertThat(first.getCash()).isEqualTo(100);
+        assertThat(first.getBet()).isZero();
+        assertThat(first.isActive()).isTrue();
+        assertThat(started.getPlayerCards(firstPlayerId)).containsExactly(card, card);
+        assertThat(started.getPlayerCards("unknown")).isEmpty();
+        assertThat(tableService.getSnapshot().getPot()).isEqualTo(20);
+        assertThat(tableService.getSnapshot().getState()).isEqualTo(GameState.FLOP);
+        Assertions.assertThatThrownBy(() -> started.getPlayers().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void recentSnapshotsShouldBeKeptByVersion() {
+        TableSnapshot first = tableService.getSnapshot();
+        assertThat(tableService.getSnapshot(1)).containsSame(first);
+
+        for (int player = 1; player < TableService.HISTORY_SIZE; player++) {
+            tableService.addPlayer("0" + player, "Player " + player);
+        }
+        assertThat(tableService.getSnapshot(1)).containsSame(first);
+        assertThat(tableService.getSnapshot(TableService.HISTORY_SIZE)).containsSame(tableService.getSnapshot());
+
+        tableService.addPlayer("overwrites first", "Player");
+        assertThat(tableService.getSnapshot(1)).isEmpty();
+        assertThat(tableService.getSnapshot(2)).isPresent();
+        assertThat(tableService.getSnapshot(0)).isEmpty();
+        assertThat(tableService.getSnapshot(-1)).isEmpty();
+        assertThat(tableService.getSnapshot(TableService.HISTORY_SIZE + 2)).isEmpty();
+    }
+
     private void setupForStartGame() {
 
         firstPlayerId = "01";
@@ -590,6 +811,8 @@ class TableServiceTest {
         Assertions.assertThat(tableService.getCurrentPlayer()).isNotPresent();
         Mockito.when(deckSupplier.get()).thenReturn(deck);
         Mockito.when(deck.draw()).thenReturn(card);
+        Mockito.when(card.getSuit()).thenReturn(Suit.DIAMONDS);
+        Mockito.when(card.getKind()).thenReturn(Kind.JACK);
         tableService.start();
 
     }
@@ -1,5 +1,6 @@
 package com.sap.ase.poker.smokeTests;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.ase.poker.dto.BetRequestDto;
 import com.sap.ase.poker.dto.GetTableResponseDto;
 import com.sap.ase.poker.dto.PlayerDto;
@@ -11,9 +12,15 @@ import org.junit.jupiter.api.Disabled;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
@@ -43,6 +50,9 @@ public class SmokeTest {
     @Autowired
     protected TableController underTest;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
 
     void addTwoPlayers() {
         addPlayerWithID(ALICE_ID);
@@ -51,7 +61,7 @@ public class SmokeTest {
 
 
     void startGame() {
-        underTest.start();
+        join(underTest.start());
     }
 
     PlayerDto getCurrentPlayerDto() {
@@ -89,18 +99,34 @@ public class SmokeTest {
     }
 
     void performAction(BetRequestDto checkString) {
-        underTest.placeBet(checkString);
+        join(underTest.placeBet(checkString));
     }
 
     GetTableResponseDto getTableResponseDtoForPlayer(String id) {
-        return underTest.getTable(createMockPrincipalWithId(id));
+        try {
+            return objectMapper.readValue(underTest.getTable(createMockPrincipalWithId(id),
+                    new ServletWebRequest(new MockHttpServletRequest())).getBody(), GetTableResponseDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 
     void addPlayerWithID(String id) {
         Principal mockPrincipal = createMockPrincipalWithId(id);
 
-        underTest.joinTable(mockPrincipal);
+        join(underTest.joinTable(mockPrincipal));
+    }
+
+    /**
+     * Waits for the mailbox of the table and rethrows the exception of the action itself
+     */
+    private <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
     }
 
     private Principal createMockPrincipalWithId(String id) {